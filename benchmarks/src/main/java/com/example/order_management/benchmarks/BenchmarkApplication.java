@@ -0,0 +1,90 @@
+package com.example.order_management.benchmarks;
+
+import com.example.order_management.OrderManagementApplication;
+import com.example.order_management.model.Client;
+import com.example.order_management.model.Order;
+import com.example.order_management.model.OrderItem;
+import com.example.order_management.model.Product;
+import com.example.order_management.repository.ClientRepository;
+import com.example.order_management.repository.ProductRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Boots the application without a web server against its in-memory H2 database, and creates the
+ * fixtures the service benchmarks order against
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Start the application; extra arguments are passed as command-line properties
+     */
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        String[] args = Stream.concat(Stream.of(
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        // Keep clear of a locally running instance
+                        "--grpc.server.port=19090"),
+                Stream.of(extraArgs)).toArray(String[]::new);
+        return new SpringApplicationBuilder(OrderManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+
+    static Long createClient(ConfigurableApplicationContext context) {
+        Client client = new Client();
+        client.setName("Benchmark Client");
+        client.setEmail("benchmark@example.com");
+        return context.getBean(ClientRepository.class).save(client).getId();
+    }
+
+    /**
+     * Create products with enough stock that no run can exhaust it
+     */
+    static List<Long> createProducts(ConfigurableApplicationContext context, int count) {
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        List<Long> productIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = new Product();
+            product.setName("Benchmark Product " + i);
+            product.setPrice(BigDecimal.valueOf(1999 + i * 100L, 2));
+            product.setStockQuantity(Integer.MAX_VALUE);
+            productIds.add(productRepository.save(product).getId());
+        }
+        return productIds;
+    }
+
+    /**
+     * A new, unsaved order with one unit of each product, referencing everything by id only
+     */
+    static Order newOrder(Long clientId, List<Long> productIds) {
+        Client client = new Client();
+        client.setId(clientId);
+
+        Order order = new Order();
+        order.setClient(client);
+        order.setShippingAddress("1 Benchmark Way");
+
+        List<OrderItem> items = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            Product product = new Product();
+            product.setId(productId);
+
+            OrderItem item = new OrderItem();
+            item.setProduct(product);
+            item.setQuantity(1);
+            items.add(item);
+        }
+        order.setItems(items);
+        return order;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.order_management.benchmarks;
+
+import com.example.order_management.model.Order;
+import com.example.order_management.service.OrderCreationResult;
+import com.example.order_management.service.OrderService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput of {@link OrderService#createOrders} for orders with many items, reported as
+ * rows per second by the {@code rows} counter.
+ * <p>
+ * {@code batchSize=1} turns JDBC batching off and stands in for the former identity-column ids;
+ * for an exact before/after comparison, run this benchmark against both application builds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int ORDERS_PER_CALL = 100;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"10", "100"})
+    private int itemsPerOrder;
+
+    /**
+     * Rows written to orders and order_items
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Rows {
+        public long rows;
+    }
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private Long clientId;
+    private List<Long> productIds;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        orderService = context.getBean(OrderService.class);
+        clientId = BenchmarkApplication.createClient(context);
+        productIds = BenchmarkApplication.createProducts(context, itemsPerOrder);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<OrderCreationResult> createOrders(Rows rows) {
+        List<Order> orders = new ArrayList<>(ORDERS_PER_CALL);
+        for (int i = 0; i < ORDERS_PER_CALL; i++) {
+            orders.add(BenchmarkApplication.newOrder(clientId, productIds));
+        }
+        List<OrderCreationResult> results = orderService.createOrders(orders);
+        rows.rows += (long) ORDERS_PER_CALL * (1 + itemsPerOrder);
+        return results;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.order_management.benchmarks;
+
+import com.example.order_management.OrderManagementApplication;
+import com.example.order_management.service.OrderService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load test comparing platform and virtual request threads.
+ * <p>
+ * Starts the full application once per mode and has {@code concurrency} clients, each on its own
+ * virtual thread, fetch a client's orders with their items over REST {@code requestsPerClient} times.
+ * That listing is not served from the order response cache, so every request blocks on JDBC and
+ * throughput in platform mode is capped by Tomcat's worker pool.
+ * <pre>
+ * java -cp target/benchmarks.jar com.example.order_management.benchmarks.ConcurrencyLoadTest [concurrency] [requestsPerClient]
+ * </pre>
+ * Concurrency this high needs a matching open-file limit ({@code ulimit -n}).
+ */
+public final class ConcurrencyLoadTest {
+
+    private ConcurrencyLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int requestsPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        for (boolean virtualThreads : List.of(false, true)) {
+            run(virtualThreads, concurrency, requestsPerClient);
+        }
+    }
+
+    private static void run(boolean virtualThreads, int concurrency, int requestsPerClient) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OrderManagementApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        // Accept every client connection so the request threads are the bottleneck
+                        "--server.tomcat.max-connections=" + (concurrency * 2),
+                        "--server.tomcat.accept-count=" + concurrency,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--grpc.server.port=19090")) {
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            Long clientId = BenchmarkApplication.createClient(context);
+            List<Long> productIds = BenchmarkApplication.createProducts(context, 5);
+            context.getBean(OrderService.class).createOrder(BenchmarkApplication.newOrder(clientId, productIds));
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders/client/" + clientId))
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+
+            LongAdder succeeded = new LongAdder();
+            LongAdder failed = new LongAdder();
+            CountDownLatch start = new CountDownLatch(1);
+            long startedAt;
+
+            try (HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+                 ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+
+                for (int i = 0; i < concurrency; i++) {
+                    clients.submit(() -> {
+                        start.await();
+                        for (int r = 0; r < requestsPerClient; r++) {
+                            try {
+                                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                                (response.statusCode() == 200 ? succeeded : failed).increment();
+                            } catch (Exception e) {
+                                failed.increment();
+                            }
+                        }
+                        return null;
+                    });
+                }
+                startedAt = System.nanoTime();
+                start.countDown();
+                // Closing the executor waits for every client to finish
+            }
+
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            System.out.printf("%s threads, %d concurrent clients: %d requests in %.1f s = %.0f req/s (%d failed)%n",
+                    virtualThreads ? "Virtual" : "Platform", concurrency, succeeded.sum(), seconds,
+                    succeeded.sum() / seconds, failed.sum());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.order_management.benchmarks;
+
+import com.example.order_management.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of an {@link Order} graph with client, items and products, as returned by
+ * the REST API
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JacksonSerializationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int lines;
+
+    private ObjectMapper objectMapper;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        order = SampleOrders.order(lines);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() {
+        return objectMapper.writeValueAsBytes(order);
+    }
+}
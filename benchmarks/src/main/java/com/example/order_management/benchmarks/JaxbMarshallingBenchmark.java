@@ -0,0 +1,52 @@
+package com.example.order_management.benchmarks;
+
+import com.example.order_management.orders.GetOrderResponse;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JAXB marshalling of the generated SOAP {@code orders.Order}, wrapped in a
+ * {@link GetOrderResponse} as sent by the SOAP endpoint
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JaxbMarshallingBenchmark {
+
+    private Marshaller marshaller;
+    private GetOrderResponse response;
+    private ByteArrayOutputStream output;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Marshallers are not thread-safe, hence one per benchmark thread
+        marshaller = JAXBContext.newInstance(GetOrderResponse.class).createMarshaller();
+        response = new GetOrderResponse();
+        response.setOrder(SampleOrders.soapOrder(SampleOrders.order(3)));
+        output = new ByteArrayOutputStream(1024);
+    }
+
+    @Benchmark
+    public int marshal() throws JAXBException {
+        output.reset();
+        marshaller.marshal(response, output);
+        return output.size();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.order_management.benchmarks;
+
+import com.example.order_management.model.Money;
+import com.example.order_management.model.Order;
+import com.example.order_management.model.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order total calculation: fixed-point minor units ({@link Order#calculateTotal()}) against the
+ * previous stream and {@link BigDecimal} implementation.
+ * <p>
+ * Each invocation prices freshly built items, as order creation does: unit prices come from a
+ * catalog with their minor units already computed, so the conversion is not measured, but nothing
+ * carries over from one invocation to the next either. Run with {@code -prof gc} to compare
+ * allocation rates as well as time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MoneyBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int lines;
+
+    // Catalog prices and their minor units, converted once like the cached product snapshots
+    private BigDecimal[] prices;
+    private long[] pricesMinorUnits;
+    private int[] quantities;
+
+    private Order order;
+
+    @Setup
+    public void setUpCatalog() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        prices = new BigDecimal[lines];
+        pricesMinorUnits = new long[lines];
+        quantities = new int[lines];
+        for (int i = 0; i < lines; i++) {
+            prices[i] = BigDecimal.valueOf(random.nextLong(100, 100_000), 2);
+            pricesMinorUnits[i] = Money.toMinorUnits(prices[i]);
+            quantities[i] = random.nextInt(1, 20);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpOrder() {
+        List<OrderItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            OrderItem item = new OrderItem();
+            item.setPrice(prices[i], pricesMinorUnits[i]);
+            item.setQuantity(quantities[i]);
+            items.add(item);
+        }
+        order = new Order();
+        order.setItems(items);
+    }
+
+    @Benchmark
+    public BigDecimal minorUnits() {
+        order.calculateTotal();
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal streamBigDecimal() {
+        return order.getItems().stream()
+                .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
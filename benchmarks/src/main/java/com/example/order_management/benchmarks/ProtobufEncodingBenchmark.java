@@ -0,0 +1,50 @@
+package com.example.order_management.benchmarks;
+
+import com.example.notification.OrderNotificationRequest;
+import com.google.protobuf.CodedOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Protobuf encoding of the {@link OrderNotificationRequest} sent for every created order
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProtobufEncodingBenchmark {
+
+    private OrderNotificationRequest request;
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() {
+        request = SampleOrders.notification(SampleOrders.order(3));
+        buffer = new byte[request.getSerializedSize()];
+    }
+
+    @Benchmark
+    public byte[] toByteArray() {
+        return request.toByteArray();
+    }
+
+    @Benchmark
+    public int writeToReusedBuffer() throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+        request.writeTo(output);
+        return output.getTotalBytesWritten();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.order_management.benchmarks;
+
+import com.example.notification.OrderNotificationRequest;
+import com.example.order_management.grpc.NotificationGrpcClient;
+import com.example.order_management.model.Client;
+import com.example.order_management.model.Order;
+import com.example.order_management.model.OrderItem;
+import com.example.order_management.model.Product;
+import com.example.order_management.orders.OrderStatus;
+
+import javax.xml.datatype.DatatypeFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+/**
+ * Detached, fully populated order graphs shared by the serialization benchmarks
+ */
+final class SampleOrders {
+
+    private SampleOrders() {
+    }
+
+    static Order order(int lines) {
+        Client client = new Client();
+        client.setId(1L);
+        client.setName("John Doe");
+        client.setEmail("john.doe@example.com");
+        client.setPhone("+1-555-0100");
+        client.setAddress("123 Main St, New York, NY 10001");
+
+        Order order = new Order();
+        order.setId(42L);
+        order.setClient(client);
+        order.setOrderDate(LocalDateTime.of(2024, 1, 15, 10, 30));
+        order.setStatus(Order.OrderStatus.CONFIRMED);
+        order.setShippingAddress(client.getAddress());
+
+        List<OrderItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            Product product = new Product();
+            product.setId((long) i + 1);
+            product.setName("Product " + (i + 1));
+            product.setDescription("Benchmark product number " + (i + 1));
+            product.setPrice(BigDecimal.valueOf(1999 + i * 100L, 2));
+            product.setStockQuantity(100);
+            product.setCategory("Electronics");
+
+            OrderItem item = new OrderItem();
+            item.setId((long) i + 1);
+            item.setOrder(order);
+            item.setProduct(product);
+            item.setQuantity(1 + i % 5);
+            item.setPrice(product.getPrice());
+            items.add(item);
+        }
+        order.setItems(items);
+        order.calculateTotal();
+        return order;
+    }
+
+    static com.example.order_management.orders.Order soapOrder(Order order) throws Exception {
+        com.example.order_management.orders.Order soapOrder = new com.example.order_management.orders.Order();
+        soapOrder.setId(order.getId());
+        soapOrder.setClientId(order.getClient().getId());
+        soapOrder.setClientName(order.getClient().getName());
+        soapOrder.setOrderDate(DatatypeFactory.newInstance().newXMLGregorianCalendar(
+                GregorianCalendar.from(order.getOrderDate().atZone(ZoneId.systemDefault()))));
+        soapOrder.setStatus(OrderStatus.fromValue(order.getStatus().name()));
+        soapOrder.setTotalAmount(order.getTotalAmount());
+        soapOrder.setShippingAddress(order.getShippingAddress());
+        return soapOrder;
+    }
+
+    static OrderNotificationRequest notification(Order order) {
+        return NotificationGrpcClient.buildRequest(
+                order.getId(),
+                order.getClient().getId(),
+                order.getClient().getName(),
+                order.getClient().getEmail(),
+                order.getTotalAmount().doubleValue(),
+                order.getStatus().name(),
+                String.format("Order #%d has been created with total amount $%.2f",
+                        order.getId(), order.getTotalAmount()));
+    }
+}
@@ -0,0 +1,39 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: notification.proto
+
+// Protobuf Java Version: 3.25.1
+package com.example.notification;
+
+public interface BatchNotificationResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:notification.BatchNotificationResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 accepted = 1;</code>
+   * @return The accepted.
+   */
+  int getAccepted();
+
+  /**
+   * <code>int32 failed = 2;</code>
+   * @return The failed.
+   */
+  int getFailed();
+
+  /**
+   * <code>repeated int64 failed_order_ids = 3;</code>
+   * @return A list containing the failedOrderIds.
+   */
+  java.util.List<java.lang.Long> getFailedOrderIdsList();
+  /**
+   * <code>repeated int64 failed_order_ids = 3;</code>
+   * @return The count of failedOrderIds.
+   */
+  int getFailedOrderIdsCount();
+  /**
+   * <code>repeated int64 failed_order_ids = 3;</code>
+   * @param index The index of the element to return.
+   * @return The failedOrderIds at the given index.
+   */
+  long getFailedOrderIds(int index);
+}
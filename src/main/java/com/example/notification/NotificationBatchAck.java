@@ -0,0 +1,788 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: notification.proto
+
+// Protobuf Java Version: 3.25.1
+package com.example.notification;
+
+/**
+ * <pre>
+ * Acknowledgement for a batch of notifications on a bidirectional stream
+ * </pre>
+ *
+ * Protobuf type {@code notification.NotificationBatchAck}
+ */
+public final class NotificationBatchAck extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:notification.NotificationBatchAck)
+    NotificationBatchAckOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use NotificationBatchAck.newBuilder() to construct.
+  private NotificationBatchAck(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private NotificationBatchAck() {
+    failedOrderIds_ = emptyLongList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new NotificationBatchAck();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.example.notification.NotificationProto.internal_static_notification_NotificationBatchAck_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.example.notification.NotificationProto.internal_static_notification_NotificationBatchAck_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.example.notification.NotificationBatchAck.class, com.example.notification.NotificationBatchAck.Builder.class);
+  }
+
+  public static final int LAST_ORDER_ID_FIELD_NUMBER = 1;
+  private long lastOrderId_ = 0L;
+  /**
+   * <code>int64 last_order_id = 1;</code>
+   * @return The lastOrderId.
+   */
+  @java.lang.Override
+  public long getLastOrderId() {
+    return lastOrderId_;
+  }
+
+  public static final int ACCEPTED_FIELD_NUMBER = 2;
+  private int accepted_ = 0;
+  /**
+   * <code>int32 accepted = 2;</code>
+   * @return The accepted.
+   */
+  @java.lang.Override
+  public int getAccepted() {
+    return accepted_;
+  }
+
+  public static final int FAILED_FIELD_NUMBER = 3;
+  private int failed_ = 0;
+  /**
+   * <code>int32 failed = 3;</code>
+   * @return The failed.
+   */
+  @java.lang.Override
+  public int getFailed() {
+    return failed_;
+  }
+
+  public static final int FAILED_ORDER_IDS_FIELD_NUMBER = 4;
+  @SuppressWarnings("serial")
+  private com.google.protobuf.Internal.LongList failedOrderIds_ =
+      emptyLongList();
+  /**
+   * <code>repeated int64 failed_order_ids = 4;</code>
+   * @return A list containing the failedOrderIds.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Long>
+      getFailedOrderIdsList() {
+    return failedOrderIds_;
+  }
+  /**
+   * <code>repeated int64 failed_order_ids = 4;</code>
+   * @return The count of failedOrderIds.
+   */
+  public int getFailedOrderIdsCount() {
+    return failedOrderIds_.size();
+  }
+  /**
+   * <code>repeated int64 failed_order_ids = 4;</code>
+   * @param index The index of the element to return.
+   * @return The failedOrderIds at the given index.
+   */
+  public long getFailedOrderIds(int index) {
+    return failedOrderIds_.getLong(index);
+  }
+  private int failedOrderIdsMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (lastOrderId_ != 0L) {
+      output.writeInt64(1, lastOrderId_);
+    }
+    if (accepted_ != 0) {
+      output.writeInt32(2, accepted_);
+    }
+    if (failed_ != 0) {
+      output.writeInt32(3, failed_);
+    }
+    if (getFailedOrderIdsList().size() > 0) {
+      output.writeUInt32NoTag(34);
+      output.writeUInt32NoTag(failedOrderIdsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < failedOrderIds_.size(); i++) {
+      output.writeInt64NoTag(failedOrderIds_.getLong(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (lastOrderId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, lastOrderId_);
+    }
+    if (accepted_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, accepted_);
+    }
+    if (failed_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(3, failed_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < failedOrderIds_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt64SizeNoTag(failedOrderIds_.getLong(i));
+      }
+      size += dataSize;
+      if (!getFailedOrderIdsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      failedOrderIdsMemoizedSerializedSize = dataSize;
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.example.notification.NotificationBatchAck)) {
+      return super.equals(obj);
+    }
+    com.example.notification.NotificationBatchAck other = (com.example.notification.NotificationBatchAck) obj;
+
+    if (getLastOrderId()
+        != other.getLastOrderId()) return false;
+    if (getAccepted()
+        != other.getAccepted()) return false;
+    if (getFailed()
+        != other.getFailed()) return false;
+    if (!getFailedOrderIdsList()
+        .equals(other.getFailedOrderIdsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + LAST_ORDER_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getLastOrderId());
+    hash = (37 * hash) + ACCEPTED_FIELD_NUMBER;
+    hash = (53 * hash) + getAccepted();
+    hash = (37 * hash) + FAILED_FIELD_NUMBER;
+    hash = (53 * hash) + getFailed();
+    if (getFailedOrderIdsCount() > 0) {
+      hash = (37 * hash) + FAILED_ORDER_IDS_FIELD_NUMBER;
+      hash = (53 * hash) + getFailedOrderIdsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.example.notification.NotificationBatchAck parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.example.notification.NotificationBatchAck parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.example.notification.NotificationBatchAck parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.example.notification.NotificationBatchAck parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.example.notification.NotificationBatchAck parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.example.notification.NotificationBatchAck parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.example.notification.NotificationBatchAck parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.example.notification.NotificationBatchAck parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.example.notification.NotificationBatchAck parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.example.notification.NotificationBatchAck parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.example.notification.NotificationBatchAck parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.example.notification.NotificationBatchAck parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.example.notification.NotificationBatchAck prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Acknowledgement for a batch of notifications on a bidirectional stream
+   * </pre>
+   *
+   * Protobuf type {@code notification.NotificationBatchAck}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:notification.NotificationBatchAck)
+      com.example.notification.NotificationBatchAckOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.example.notification.NotificationProto.internal_static_notification_NotificationBatchAck_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.example.notification.NotificationProto.internal_static_notification_NotificationBatchAck_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.example.notification.NotificationBatchAck.class, com.example.notification.NotificationBatchAck.Builder.class);
+    }
+
+    // Construct using com.example.notification.NotificationBatchAck.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      lastOrderId_ = 0L;
+      accepted_ = 0;
+      failed_ = 0;
+      failedOrderIds_ = emptyLongList();
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.example.notification.NotificationProto.internal_static_notification_NotificationBatchAck_descriptor;
+    }
+
+    @java.lang.Override
+    public com.example.notification.NotificationBatchAck getDefaultInstanceForType() {
+      return com.example.notification.NotificationBatchAck.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.example.notification.NotificationBatchAck build() {
+      com.example.notification.NotificationBatchAck result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.example.notification.NotificationBatchAck buildPartial() {
+      com.example.notification.NotificationBatchAck result = new com.example.notification.NotificationBatchAck(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.example.notification.NotificationBatchAck result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.lastOrderId_ = lastOrderId_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.accepted_ = accepted_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.failed_ = failed_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        failedOrderIds_.makeImmutable();
+        result.failedOrderIds_ = failedOrderIds_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.example.notification.NotificationBatchAck) {
+        return mergeFrom((com.example.notification.NotificationBatchAck)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.example.notification.NotificationBatchAck other) {
+      if (other == com.example.notification.NotificationBatchAck.getDefaultInstance()) return this;
+      if (other.getLastOrderId() != 0L) {
+        setLastOrderId(other.getLastOrderId());
+      }
+      if (other.getAccepted() != 0) {
+        setAccepted(other.getAccepted());
+      }
+      if (other.getFailed() != 0) {
+        setFailed(other.getFailed());
+      }
+      if (!other.failedOrderIds_.isEmpty()) {
+        if (failedOrderIds_.isEmpty()) {
+          failedOrderIds_ = other.failedOrderIds_;
+          failedOrderIds_.makeImmutable();
+          bitField0_ |= 0x00000008;
+        } else {
+          ensureFailedOrderIdsIsMutable();
+          failedOrderIds_.addAll(other.failedOrderIds_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              lastOrderId_ = input.readInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 16: {
+              accepted_ = input.readInt32();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 24: {
+              failed_ = input.readInt32();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            case 32: {
+              long v = input.readInt64();
+              ensureFailedOrderIdsIsMutable();
+              failedOrderIds_.addLong(v);
+              break;
+            } // case 32
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              ensureFailedOrderIdsIsMutable();
+              while (input.getBytesUntilLimit() > 0) {
+                failedOrderIds_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            } // case 34
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long lastOrderId_ ;
+    /**
+     * <code>int64 last_order_id = 1;</code>
+     * @return The lastOrderId.
+     */
+    @java.lang.Override
+    public long getLastOrderId() {
+      return lastOrderId_;
+    }
+    /**
+     * <code>int64 last_order_id = 1;</code>
+     * @param value The lastOrderId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLastOrderId(long value) {
+
+      lastOrderId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 last_order_id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLastOrderId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      lastOrderId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int accepted_ ;
+    /**
+     * <code>int32 accepted = 2;</code>
+     * @return The accepted.
+     */
+    @java.lang.Override
+    public int getAccepted() {
+      return accepted_;
+    }
+    /**
+     * <code>int32 accepted = 2;</code>
+     * @param value The accepted to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAccepted(int value) {
+
+      accepted_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 accepted = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAccepted() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      accepted_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int failed_ ;
+    /**
+     * <code>int32 failed = 3;</code>
+     * @return The failed.
+     */
+    @java.lang.Override
+    public int getFailed() {
+      return failed_;
+    }
+    /**
+     * <code>int32 failed = 3;</code>
+     * @param value The failed to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFailed(int value) {
+
+      failed_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 failed = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFailed() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      failed_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.LongList failedOrderIds_ = emptyLongList();
+    private void ensureFailedOrderIdsIsMutable() {
+      if (!failedOrderIds_.isModifiable()) {
+        failedOrderIds_ = makeMutableCopy(failedOrderIds_);
+      }
+      bitField0_ |= 0x00000008;
+    }
+    /**
+     * <code>repeated int64 failed_order_ids = 4;</code>
+     * @return A list containing the failedOrderIds.
+     */
+    public java.util.List<java.lang.Long>
+        getFailedOrderIdsList() {
+      failedOrderIds_.makeImmutable();
+      return failedOrderIds_;
+    }
+    /**
+     * <code>repeated int64 failed_order_ids = 4;</code>
+     * @return The count of failedOrderIds.
+     */
+    public int getFailedOrderIdsCount() {
+      return failedOrderIds_.size();
+    }
+    /**
+     * <code>repeated int64 failed_order_ids = 4;</code>
+     * @param index The index of the element to return.
+     * @return The failedOrderIds at the given index.
+     */
+    public long getFailedOrderIds(int index) {
+      return failedOrderIds_.getLong(index);
+    }
+    /**
+     * <code>repeated int64 failed_order_ids = 4;</code>
+     * @param index The index to set the value at.
+     * @param value The failedOrderIds to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFailedOrderIds(
+        int index, long value) {
+
+      ensureFailedOrderIdsIsMutable();
+      failedOrderIds_.setLong(index, value);
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 failed_order_ids = 4;</code>
+     * @param value The failedOrderIds to add.
+     * @return This builder for chaining.
+     */
+    public Builder addFailedOrderIds(long value) {
+
+      ensureFailedOrderIdsIsMutable();
+      failedOrderIds_.addLong(value);
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 failed_order_ids = 4;</code>
+     * @param values The failedOrderIds to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllFailedOrderIds(
+        java.lang.Iterable<? extends java.lang.Long> values) {
+      ensureFailedOrderIdsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, failedOrderIds_);
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 failed_order_ids = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFailedOrderIds() {
+      failedOrderIds_ = emptyLongList();
+      bitField0_ = (bitField0_ & ~0x00000008);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:notification.NotificationBatchAck)
+  }
+
+  // @@protoc_insertion_point(class_scope:notification.NotificationBatchAck)
+  private static final com.example.notification.NotificationBatchAck DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.example.notification.NotificationBatchAck();
+  }
+
+  public static com.example.notification.NotificationBatchAck getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<NotificationBatchAck>
+      PARSER = new com.google.protobuf.AbstractParser<NotificationBatchAck>() {
+    @java.lang.Override
+    public NotificationBatchAck parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<NotificationBatchAck> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<NotificationBatchAck> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.example.notification.NotificationBatchAck getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,45 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: notification.proto
+
+// Protobuf Java Version: 3.25.1
+package com.example.notification;
+
+public interface NotificationBatchAckOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:notification.NotificationBatchAck)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 last_order_id = 1;</code>
+   * @return The lastOrderId.
+   */
+  long getLastOrderId();
+
+  /**
+   * <code>int32 accepted = 2;</code>
+   * @return The accepted.
+   */
+  int getAccepted();
+
+  /**
+   * <code>int32 failed = 3;</code>
+   * @return The failed.
+   */
+  int getFailed();
+
+  /**
+   * <code>repeated int64 failed_order_ids = 4;</code>
+   * @return A list containing the failedOrderIds.
+   */
+  java.util.List<java.lang.Long> getFailedOrderIdsList();
+  /**
+   * <code>repeated int64 failed_order_ids = 4;</code>
+   * @return The count of failedOrderIds.
+   */
+  int getFailedOrderIdsCount();
+  /**
+   * <code>repeated int64 failed_order_ids = 4;</code>
+   * @param index The index of the element to return.
+   * @return The failedOrderIds at the given index.
+   */
+  long getFailedOrderIds(int index);
+}
@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: notification.proto
+
+// Protobuf Java Version: 3.25.1
+package com.example.notification;
+
+public interface NotificationHistoryPageRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:notification.NotificationHistoryPageRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 client_id = 1;</code>
+   * @return The clientId.
+   */
+  long getClientId();
+
+  /**
+   * <code>int32 page_size = 2;</code>
+   * @return The pageSize.
+   */
+  int getPageSize();
+
+  /**
+   * <code>string page_token = 3;</code>
+   * @return The pageToken.
+   */
+  java.lang.String getPageToken();
+  /**
+   * <code>string page_token = 3;</code>
+   * @return The bytes for pageToken.
+   */
+  com.google.protobuf.ByteString
+      getPageTokenBytes();
+}
@@ -25,6 +25,16 @@ public final class NotificationProto {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_notification_OrderNotificationResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_notification_BatchNotificationResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_notification_BatchNotificationResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_notification_NotificationBatchAck_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_notification_NotificationBatchAck_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_notification_NotificationHistoryRequest_descriptor;
   static final 
@@ -35,6 +45,16 @@ public final class NotificationProto {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_notification_NotificationHistoryResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_notification_NotificationHistoryPageRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_notification_NotificationHistoryPageRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_notification_NotificationHistoryPageResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_notification_NotificationHistoryPageResponse_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_notification_NotificationRecord_descriptor;
   static final 
@@ -56,19 +76,41 @@ public final class NotificationProto {
       "\005 \001(\001\022\016\n\006status\030\006 \001(\t\022\017\n\007message\030\007 \001(\t\"V" +
       "\n\031OrderNotificationResponse\022\017\n\007success\030\001" +
       " \001(\010\022\017\n\007message\030\002 \001(\t\022\027\n\017notification_id" +
-      "\030\003 \001(\t\">\n\032NotificationHistoryRequest\022\021\n\t" +
-      "client_id\030\001 \001(\003\022\r\n\005limit\030\002 \001(\005\"V\n\033Notifi" +
-      "cationHistoryResponse\0227\n\rnotifications\030\001" +
-      " \003(\0132 .notification.NotificationRecord\"s" +
-      "\n\022NotificationRecord\022\027\n\017notification_id\030" +
-      "\001 \001(\t\022\020\n\010order_id\030\002 \001(\003\022\017\n\007message\030\003 \001(\t" +
-      "\022\021\n\ttimestamp\030\004 \001(\t\022\016\n\006status\030\005 \001(\t2\356\001\n\023" +
-      "NotificationService\022h\n\025SendOrderNotifica" +
-      "tion\022&.notification.OrderNotificationReq" +
-      "uest\032\'.notification.OrderNotificationRes" +
-      "ponse\022m\n\026GetNotificationHistory\022(.notifi" +
-      "cation.NotificationHistoryRequest\032).noti" +
-      "fication.NotificationHistoryResponseB/\n\030" +
+      "\030\003 \001(\t\"W\n\031BatchNotificationResponse\022\020\n\010a" +
+      "ccepted\030\001 \001(\005\022\016\n\006failed\030\002 \001(\005\022\030\n\020failed_" +
+      "order_ids\030\003 \003(\003\"i\n\024NotificationBatchAck\022" +
+      "\025\n\rlast_order_id\030\001 \001(\003\022\020\n\010accepted\030\002 \001(\005" +
+      "\022\016\n\006failed\030\003 \001(\005\022\030\n\020failed_order_ids\030\004 \003" +
+      "(\003\">\n\032NotificationHistoryRequest\022\021\n\tclie" +
+      "nt_id\030\001 \001(\003\022\r\n\005limit\030\002 \001(\005\"V\n\033Notificati" +
+      "onHistoryResponse\0227\n\rnotifications\030\001 \003(\013" +
+      "2 .notification.NotificationRecord\"Z\n\036No" +
+      "tificationHistoryPageRequest\022\021\n\tclient_i" +
+      "d\030\001 \001(\003\022\021\n\tpage_size\030\002 \001(\005\022\022\n\npage_token" +
+      "\030\003 \001(\t\"s\n\037NotificationHistoryPageRespons" +
+      "e\0227\n\rnotifications\030\001 \003(\0132 .notification." +
+      "NotificationRecord\022\027\n\017next_page_token\030\002 " +
+      "\001(\t\"\205\001\n\022NotificationRecord\022\027\n\017notificati" +
+      "on_id\030\001 \001(\t\022\020\n\010order_id\030\002 \001(\003\022\017\n\007message" +
+      "\030\003 \001(\t\022\021\n\ttimestamp\030\004 \001(\t\022\016\n\006status\030\005 \001(" +
+      "\t\022\020\n\010sequence\030\006 \001(\0032\266\005\n\023NotificationServ" +
+      "ice\022h\n\025SendOrderNotification\022&.notificat" +
+      "ion.OrderNotificationRequest\032\'.notificat" +
+      "ion.OrderNotificationResponse\022k\n\026SendOrd" +
+      "erNotifications\022&.notification.OrderNoti" +
+      "ficationRequest\032\'.notification.BatchNoti" +
+      "ficationResponse(\001\022j\n\030StreamOrderNotific" +
+      "ations\022&.notification.OrderNotificationR" +
+      "equest\032\".notification.NotificationBatchA" +
+      "ck(\0010\001\022m\n\026GetNotificationHistory\022(.notif" +
+      "ication.NotificationHistoryRequest\032).not" +
+      "ification.NotificationHistoryResponse\022r\n" +
+      "\031StreamNotificationHistory\022(.notificatio" +
+      "n.NotificationHistoryRequest\032).notificat" +
+      "ion.NotificationHistoryResponse0\001\022y\n\032Get" +
+      "NotificationHistoryPage\022,.notification.N" +
+      "otificationHistoryPageRequest\032-.notifica" +
+      "tion.NotificationHistoryPageResponseB/\n\030" +
       "com.example.notificationB\021NotificationPr" +
       "otoP\001b\006proto3"
     };
@@ -88,24 +130,48 @@ public final class NotificationProto {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_notification_OrderNotificationResponse_descriptor,
         new java.lang.String[] { "Success", "Message", "NotificationId", });
-    internal_static_notification_NotificationHistoryRequest_descriptor =
+    internal_static_notification_BatchNotificationResponse_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_notification_BatchNotificationResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_notification_BatchNotificationResponse_descriptor,
+        new java.lang.String[] { "Accepted", "Failed", "FailedOrderIds", });
+    internal_static_notification_NotificationBatchAck_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_notification_NotificationBatchAck_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_notification_NotificationBatchAck_descriptor,
+        new java.lang.String[] { "LastOrderId", "Accepted", "Failed", "FailedOrderIds", });
+    internal_static_notification_NotificationHistoryRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
     internal_static_notification_NotificationHistoryRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_notification_NotificationHistoryRequest_descriptor,
         new java.lang.String[] { "ClientId", "Limit", });
     internal_static_notification_NotificationHistoryResponse_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_notification_NotificationHistoryResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_notification_NotificationHistoryResponse_descriptor,
         new java.lang.String[] { "Notifications", });
+    internal_static_notification_NotificationHistoryPageRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_notification_NotificationHistoryPageRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_notification_NotificationHistoryPageRequest_descriptor,
+        new java.lang.String[] { "ClientId", "PageSize", "PageToken", });
+    internal_static_notification_NotificationHistoryPageResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_notification_NotificationHistoryPageResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_notification_NotificationHistoryPageResponse_descriptor,
+        new java.lang.String[] { "Notifications", "NextPageToken", });
     internal_static_notification_NotificationRecord_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_notification_NotificationRecord_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_notification_NotificationRecord_descriptor,
-        new java.lang.String[] { "NotificationId", "OrderId", "Message", "Timestamp", "Status", });
+        new java.lang.String[] { "NotificationId", "OrderId", "Message", "Timestamp", "Status", "Sequence", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
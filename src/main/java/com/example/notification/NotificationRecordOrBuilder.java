@@ -61,4 +61,10 @@ public interface NotificationRecordOrBuilder extends
    */
   com.google.protobuf.ByteString
       getStatusBytes();
+
+  /**
+   * <code>int64 sequence = 6;</code>
+   * @return The sequence.
+   */
+  long getSequence();
 }
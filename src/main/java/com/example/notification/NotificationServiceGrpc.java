@@ -49,6 +49,68 @@ public final class NotificationServiceGrpc {
     return getSendOrderNotificationMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<com.example.notification.OrderNotificationRequest,
+      com.example.notification.BatchNotificationResponse> getSendOrderNotificationsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SendOrderNotifications",
+      requestType = com.example.notification.OrderNotificationRequest.class,
+      responseType = com.example.notification.BatchNotificationResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<com.example.notification.OrderNotificationRequest,
+      com.example.notification.BatchNotificationResponse> getSendOrderNotificationsMethod() {
+    io.grpc.MethodDescriptor<com.example.notification.OrderNotificationRequest, com.example.notification.BatchNotificationResponse> getSendOrderNotificationsMethod;
+    if ((getSendOrderNotificationsMethod = NotificationServiceGrpc.getSendOrderNotificationsMethod) == null) {
+      synchronized (NotificationServiceGrpc.class) {
+        if ((getSendOrderNotificationsMethod = NotificationServiceGrpc.getSendOrderNotificationsMethod) == null) {
+          NotificationServiceGrpc.getSendOrderNotificationsMethod = getSendOrderNotificationsMethod =
+              io.grpc.MethodDescriptor.<com.example.notification.OrderNotificationRequest, com.example.notification.BatchNotificationResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "SendOrderNotifications"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.notification.OrderNotificationRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.notification.BatchNotificationResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new NotificationServiceMethodDescriptorSupplier("SendOrderNotifications"))
+              .build();
+        }
+      }
+    }
+    return getSendOrderNotificationsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.notification.OrderNotificationRequest,
+      com.example.notification.NotificationBatchAck> getStreamOrderNotificationsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StreamOrderNotifications",
+      requestType = com.example.notification.OrderNotificationRequest.class,
+      responseType = com.example.notification.NotificationBatchAck.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<com.example.notification.OrderNotificationRequest,
+      com.example.notification.NotificationBatchAck> getStreamOrderNotificationsMethod() {
+    io.grpc.MethodDescriptor<com.example.notification.OrderNotificationRequest, com.example.notification.NotificationBatchAck> getStreamOrderNotificationsMethod;
+    if ((getStreamOrderNotificationsMethod = NotificationServiceGrpc.getStreamOrderNotificationsMethod) == null) {
+      synchronized (NotificationServiceGrpc.class) {
+        if ((getStreamOrderNotificationsMethod = NotificationServiceGrpc.getStreamOrderNotificationsMethod) == null) {
+          NotificationServiceGrpc.getStreamOrderNotificationsMethod = getStreamOrderNotificationsMethod =
+              io.grpc.MethodDescriptor.<com.example.notification.OrderNotificationRequest, com.example.notification.NotificationBatchAck>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StreamOrderNotifications"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.notification.OrderNotificationRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.notification.NotificationBatchAck.getDefaultInstance()))
+              .setSchemaDescriptor(new NotificationServiceMethodDescriptorSupplier("StreamOrderNotifications"))
+              .build();
+        }
+      }
+    }
+    return getStreamOrderNotificationsMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<com.example.notification.NotificationHistoryRequest,
       com.example.notification.NotificationHistoryResponse> getGetNotificationHistoryMethod;
 
@@ -80,6 +142,68 @@ public final class NotificationServiceGrpc {
     return getGetNotificationHistoryMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<com.example.notification.NotificationHistoryRequest,
+      com.example.notification.NotificationHistoryResponse> getStreamNotificationHistoryMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StreamNotificationHistory",
+      requestType = com.example.notification.NotificationHistoryRequest.class,
+      responseType = com.example.notification.NotificationHistoryResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.example.notification.NotificationHistoryRequest,
+      com.example.notification.NotificationHistoryResponse> getStreamNotificationHistoryMethod() {
+    io.grpc.MethodDescriptor<com.example.notification.NotificationHistoryRequest, com.example.notification.NotificationHistoryResponse> getStreamNotificationHistoryMethod;
+    if ((getStreamNotificationHistoryMethod = NotificationServiceGrpc.getStreamNotificationHistoryMethod) == null) {
+      synchronized (NotificationServiceGrpc.class) {
+        if ((getStreamNotificationHistoryMethod = NotificationServiceGrpc.getStreamNotificationHistoryMethod) == null) {
+          NotificationServiceGrpc.getStreamNotificationHistoryMethod = getStreamNotificationHistoryMethod =
+              io.grpc.MethodDescriptor.<com.example.notification.NotificationHistoryRequest, com.example.notification.NotificationHistoryResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StreamNotificationHistory"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.notification.NotificationHistoryRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.notification.NotificationHistoryResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new NotificationServiceMethodDescriptorSupplier("StreamNotificationHistory"))
+              .build();
+        }
+      }
+    }
+    return getStreamNotificationHistoryMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.example.notification.NotificationHistoryPageRequest,
+      com.example.notification.NotificationHistoryPageResponse> getGetNotificationHistoryPageMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetNotificationHistoryPage",
+      requestType = com.example.notification.NotificationHistoryPageRequest.class,
+      responseType = com.example.notification.NotificationHistoryPageResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.example.notification.NotificationHistoryPageRequest,
+      com.example.notification.NotificationHistoryPageResponse> getGetNotificationHistoryPageMethod() {
+    io.grpc.MethodDescriptor<com.example.notification.NotificationHistoryPageRequest, com.example.notification.NotificationHistoryPageResponse> getGetNotificationHistoryPageMethod;
+    if ((getGetNotificationHistoryPageMethod = NotificationServiceGrpc.getGetNotificationHistoryPageMethod) == null) {
+      synchronized (NotificationServiceGrpc.class) {
+        if ((getGetNotificationHistoryPageMethod = NotificationServiceGrpc.getGetNotificationHistoryPageMethod) == null) {
+          NotificationServiceGrpc.getGetNotificationHistoryPageMethod = getGetNotificationHistoryPageMethod =
+              io.grpc.MethodDescriptor.<com.example.notification.NotificationHistoryPageRequest, com.example.notification.NotificationHistoryPageResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetNotificationHistoryPage"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.notification.NotificationHistoryPageRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.example.notification.NotificationHistoryPageResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new NotificationServiceMethodDescriptorSupplier("GetNotificationHistoryPage"))
+              .build();
+        }
+      }
+    }
+    return getGetNotificationHistoryPageMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -141,6 +265,26 @@ public final class NotificationServiceGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSendOrderNotificationMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * Send many order notifications over a single client stream
+     * </pre>
+     */
+    default io.grpc.stub.StreamObserver<com.example.notification.OrderNotificationRequest> sendOrderNotifications(
+        io.grpc.stub.StreamObserver<com.example.notification.BatchNotificationResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getSendOrderNotificationsMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Send order notifications over a bidirectional stream, acknowledged in batches
+     * </pre>
+     */
+    default io.grpc.stub.StreamObserver<com.example.notification.OrderNotificationRequest> streamOrderNotifications(
+        io.grpc.stub.StreamObserver<com.example.notification.NotificationBatchAck> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getStreamOrderNotificationsMethod(), responseObserver);
+    }
+
     /**
      * <pre>
      * Get notification history
@@ -150,6 +294,26 @@ public final class NotificationServiceGrpc {
         io.grpc.stub.StreamObserver<com.example.notification.NotificationHistoryResponse> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetNotificationHistoryMethod(), responseObserver);
     }
+
+    /**
+     * <pre>
+     * Stream notification history in fixed-size chunks
+     * </pre>
+     */
+    default void streamNotificationHistory(com.example.notification.NotificationHistoryRequest request,
+        io.grpc.stub.StreamObserver<com.example.notification.NotificationHistoryResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamNotificationHistoryMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Get one page of notification history, continuing from a page token
+     * </pre>
+     */
+    default void getNotificationHistoryPage(com.example.notification.NotificationHistoryPageRequest request,
+        io.grpc.stub.StreamObserver<com.example.notification.NotificationHistoryPageResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetNotificationHistoryPageMethod(), responseObserver);
+    }
   }
 
   /**
@@ -196,6 +360,28 @@ public final class NotificationServiceGrpc {
           getChannel().newCall(getSendOrderNotificationMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     * <pre>
+     * Send many order notifications over a single client stream
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<com.example.notification.OrderNotificationRequest> sendOrderNotifications(
+        io.grpc.stub.StreamObserver<com.example.notification.BatchNotificationResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncClientStreamingCall(
+          getChannel().newCall(getSendOrderNotificationsMethod(), getCallOptions()), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Send order notifications over a bidirectional stream, acknowledged in batches
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<com.example.notification.OrderNotificationRequest> streamOrderNotifications(
+        io.grpc.stub.StreamObserver<com.example.notification.NotificationBatchAck> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getStreamOrderNotificationsMethod(), getCallOptions()), responseObserver);
+    }
+
     /**
      * <pre>
      * Get notification history
@@ -206,6 +392,28 @@ public final class NotificationServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getGetNotificationHistoryMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     * Stream notification history in fixed-size chunks
+     * </pre>
+     */
+    public void streamNotificationHistory(com.example.notification.NotificationHistoryRequest request,
+        io.grpc.stub.StreamObserver<com.example.notification.NotificationHistoryResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getStreamNotificationHistoryMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Get one page of notification history, continuing from a page token
+     * </pre>
+     */
+    public void getNotificationHistoryPage(com.example.notification.NotificationHistoryPageRequest request,
+        io.grpc.stub.StreamObserver<com.example.notification.NotificationHistoryPageResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetNotificationHistoryPageMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -246,6 +454,27 @@ public final class NotificationServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getGetNotificationHistoryMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * Stream notification history in fixed-size chunks
+     * </pre>
+     */
+    public java.util.Iterator<com.example.notification.NotificationHistoryResponse> streamNotificationHistory(
+        com.example.notification.NotificationHistoryRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getStreamNotificationHistoryMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Get one page of notification history, continuing from a page token
+     * </pre>
+     */
+    public com.example.notification.NotificationHistoryPageResponse getNotificationHistoryPage(com.example.notification.NotificationHistoryPageRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetNotificationHistoryPageMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -288,10 +517,25 @@ public final class NotificationServiceGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getGetNotificationHistoryMethod(), getCallOptions()), request);
     }
+
+    /**
+     * <pre>
+     * Get one page of notification history, continuing from a page token
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.example.notification.NotificationHistoryPageResponse> getNotificationHistoryPage(
+        com.example.notification.NotificationHistoryPageRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetNotificationHistoryPageMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_SEND_ORDER_NOTIFICATION = 0;
   private static final int METHODID_GET_NOTIFICATION_HISTORY = 1;
+  private static final int METHODID_STREAM_NOTIFICATION_HISTORY = 2;
+  private static final int METHODID_GET_NOTIFICATION_HISTORY_PAGE = 3;
+  private static final int METHODID_SEND_ORDER_NOTIFICATIONS = 4;
+  private static final int METHODID_STREAM_ORDER_NOTIFICATIONS = 5;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -318,6 +562,14 @@ public final class NotificationServiceGrpc {
           serviceImpl.getNotificationHistory((com.example.notification.NotificationHistoryRequest) request,
               (io.grpc.stub.StreamObserver<com.example.notification.NotificationHistoryResponse>) responseObserver);
           break;
+        case METHODID_STREAM_NOTIFICATION_HISTORY:
+          serviceImpl.streamNotificationHistory((com.example.notification.NotificationHistoryRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.notification.NotificationHistoryResponse>) responseObserver);
+          break;
+        case METHODID_GET_NOTIFICATION_HISTORY_PAGE:
+          serviceImpl.getNotificationHistoryPage((com.example.notification.NotificationHistoryPageRequest) request,
+              (io.grpc.stub.StreamObserver<com.example.notification.NotificationHistoryPageResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -328,6 +580,12 @@ public final class NotificationServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_SEND_ORDER_NOTIFICATIONS:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.sendOrderNotifications(
+              (io.grpc.stub.StreamObserver<com.example.notification.BatchNotificationResponse>) responseObserver);
+        case METHODID_STREAM_ORDER_NOTIFICATIONS:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.streamOrderNotifications(
+              (io.grpc.stub.StreamObserver<com.example.notification.NotificationBatchAck>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -343,6 +601,20 @@ public final class NotificationServiceGrpc {
               com.example.notification.OrderNotificationRequest,
               com.example.notification.OrderNotificationResponse>(
                 service, METHODID_SEND_ORDER_NOTIFICATION)))
+        .addMethod(
+          getSendOrderNotificationsMethod(),
+          io.grpc.stub.ServerCalls.asyncClientStreamingCall(
+            new MethodHandlers<
+              com.example.notification.OrderNotificationRequest,
+              com.example.notification.BatchNotificationResponse>(
+                service, METHODID_SEND_ORDER_NOTIFICATIONS)))
+        .addMethod(
+          getStreamOrderNotificationsMethod(),
+          io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+            new MethodHandlers<
+              com.example.notification.OrderNotificationRequest,
+              com.example.notification.NotificationBatchAck>(
+                service, METHODID_STREAM_ORDER_NOTIFICATIONS)))
         .addMethod(
           getGetNotificationHistoryMethod(),
           io.grpc.stub.ServerCalls.asyncUnaryCall(
@@ -350,6 +622,20 @@ public final class NotificationServiceGrpc {
               com.example.notification.NotificationHistoryRequest,
               com.example.notification.NotificationHistoryResponse>(
                 service, METHODID_GET_NOTIFICATION_HISTORY)))
+        .addMethod(
+          getStreamNotificationHistoryMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              com.example.notification.NotificationHistoryRequest,
+              com.example.notification.NotificationHistoryResponse>(
+                service, METHODID_STREAM_NOTIFICATION_HISTORY)))
+        .addMethod(
+          getGetNotificationHistoryPageMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              com.example.notification.NotificationHistoryPageRequest,
+              com.example.notification.NotificationHistoryPageResponse>(
+                service, METHODID_GET_NOTIFICATION_HISTORY_PAGE)))
         .build();
   }
 
@@ -399,7 +685,11 @@ public final class NotificationServiceGrpc {
           serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
               .setSchemaDescriptor(new NotificationServiceFileDescriptorSupplier())
               .addMethod(getSendOrderNotificationMethod())
+              .addMethod(getSendOrderNotificationsMethod())
+              .addMethod(getStreamOrderNotificationsMethod())
               .addMethod(getGetNotificationHistoryMethod())
+              .addMethod(getStreamNotificationHistoryMethod())
+              .addMethod(getGetNotificationHistoryPageMethod())
               .build();
         }
       }
@@ -0,0 +1,107 @@
+package com.example.order_management.cache;
+
+import com.example.order_management.repository.ClientRepository;
+import com.example.order_management.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache of product and client snapshots for the order write path.
+ * <p>
+ * Entries are bounded by an estimated byte budget and expire after a TTL; they are also dropped
+ * explicitly whenever the underlying row is changed through the API. Misses are always loaded
+ * through the bulk path, which queries outside the cache's internal locks, so a loading virtual
+ * thread never pins its carrier. Hit, miss and eviction
+ * counts are published under {@code cache.*} with {@code cache=catalog.products|catalog.clients}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogCache {
+
+    private final ProductRepository productRepository;
+    private final ClientRepository clientRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${catalog.cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    @Value("${catalog.cache.ttl:10m}")
+    private Duration ttl;
+
+    private Cache<Long, ProductSnapshot> products;
+    private Cache<Long, ClientSnapshot> clients;
+
+    @PostConstruct
+    public void init() {
+        products = Caffeine.newBuilder()
+                .maximumWeight(maxBytes / 2)
+                .weigher((Long id, ProductSnapshot product) -> product.estimatedBytes())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        clients = Caffeine.newBuilder()
+                .maximumWeight(maxBytes / 2)
+                .weigher((Long id, ClientSnapshot client) -> client.estimatedBytes())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "catalog.products");
+        CaffeineCacheMetrics.monitor(meterRegistry, clients, "catalog.clients");
+    }
+
+    /**
+     * Snapshots for the given product ids, loading all misses in one query.
+     * Ids that do not exist are absent from the result.
+     */
+    public Map<Long, ProductSnapshot> getProducts(Collection<Long> productIds) {
+        return products.getAll(productIds, missing -> productRepository.findAllById(List.copyOf(missing)).stream()
+                .map(ProductSnapshot::of)
+                .collect(Collectors.toMap(ProductSnapshot::id, Function.identity())));
+    }
+
+    public Optional<ProductSnapshot> getProduct(Long productId) {
+        return Optional.ofNullable(getProducts(Set.of(productId)).get(productId));
+    }
+
+    /**
+     * Snapshots for the given client ids, loading all misses in one query.
+     * Ids that do not exist are absent from the result.
+     */
+    public Map<Long, ClientSnapshot> getClients(Collection<Long> clientIds) {
+        return clients.getAll(clientIds, missing -> clientRepository.findAllById(List.copyOf(missing)).stream()
+                .map(ClientSnapshot::of)
+                .collect(Collectors.toMap(ClientSnapshot::id, Function.identity())));
+    }
+
+    public Optional<ClientSnapshot> getClient(Long clientId) {
+        return Optional.ofNullable(getClients(Set.of(clientId)).get(clientId));
+    }
+
+    public void invalidateProduct(Long productId) {
+        products.invalidate(productId);
+        log.debug("Invalidated cached product {}", productId);
+    }
+
+    public void invalidateClient(Long clientId) {
+        clients.invalidate(clientId);
+        log.debug("Invalidated cached client {}", clientId);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.order_management.cache;
+
+import com.example.order_management.inventory.StockReservationLedger;
+import com.example.order_management.model.Client;
+import com.example.order_management.model.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached catalog entries when products or clients are changed through Spring Data REST
+ */
+@Component
+@RepositoryEventHandler
+@RequiredArgsConstructor
+public class CatalogCacheInvalidationHandler {
+
+    private final CatalogCache catalogCache;
+    private final StockReservationLedger stockLedger;
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void onProductChanged(Product product) {
+        catalogCache.invalidateProduct(product.getId());
+        // Stock may have been edited directly; re-seed the ledger from the table
+        stockLedger.evict(product.getId());
+    }
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void onClientChanged(Client client) {
+        catalogCache.invalidateClient(client.getId());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.order_management.cache;
+
+import com.example.order_management.model.Client;
+
+/**
+ * Cached, immutable view of a client's contact details
+ */
+public record ClientSnapshot(Long id, String name, String email, String phone, String address) {
+
+    public static ClientSnapshot of(Client client) {
+        return new ClientSnapshot(client.getId(), client.getName(), client.getEmail(),
+                client.getPhone(), client.getAddress());
+    }
+
+    /**
+     * Rough retained size in bytes, used to weigh cache entries
+     */
+    int estimatedBytes() {
+        return 64 + 2 * (length(name) + length(email) + length(phone) + length(address));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.order_management.cache;
+
+import com.example.order_management.model.Order;
+import com.example.order_management.model.OrderItem;
+import com.example.order_management.model.Product;
+import com.example.order_management.persistence.TransactionCallbacks;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Cache of serialized order detail responses, keyed by order id.
+ * <p>
+ * Each entry holds the JSON bytes of an order together with an ETag built from its id and a
+ * digest of those bytes, so a conditional request that still matches is answered without a query
+ * or a serialization, and any change to the embedded client or products yields a new ETag.
+ * Entries are dropped whenever the order changes, and also when the client or a product they
+ * embed is edited. Embedded products leave out their stock level and version: both change on
+ * every stock flush, and would otherwise churn the ETag of every order for a popular product.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderResponseCache {
+
+    /**
+     * Serialized order, the ETag it was served with and the entities embedded in it
+     */
+    public record CachedOrderResponse(String etag, byte[] body, Long clientId, Set<Long> productIds) {
+    }
+
+    /**
+     * Product properties left out of cached responses; stock and version move on every stock flush
+     */
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "stockQuantity", "version"})
+    private abstract static class EmbeddedProductMixIn {
+    }
+
+    // Rough per-entry overhead of the key, record and ETag on top of the body
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${orders.response-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${orders.response-cache.ttl:10m}")
+    private Duration ttl;
+
+    private ReadThroughCache<Long, CachedOrderResponse> responses;
+    private ObjectMapper responseMapper;
+
+    private Counter notModified;
+
+    @PostConstruct
+    public void init() {
+        Cache<Long, CachedOrderResponse> cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, CachedOrderResponse response) -> ENTRY_OVERHEAD_BYTES + response.body().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "orders.responses");
+        responses = new ReadThroughCache<>(cache);
+        responseMapper = objectMapper.rebuild()
+                .addMixIn(Product.class, EmbeddedProductMixIn.class)
+                .build();
+        notModified = meterRegistry.counter("orders.responses.not-modified");
+    }
+
+    /**
+     * Cached response for an order, loading and serializing it on a miss
+     *
+     * @param loader loads the order with everything its JSON includes
+     */
+    public CachedOrderResponse get(Long orderId, Function<Long, Order> loader) {
+        return responses.get(orderId, id -> {
+            Order order = loader.apply(id);
+            byte[] body = responseMapper.writeValueAsBytes(order);
+            return new CachedOrderResponse(etagOf(id, body), body, order.getClient().getId(), productIdsOf(order));
+        });
+    }
+
+    /**
+     * Record that a conditional request was answered from the cached ETag
+     */
+    public void recordNotModified() {
+        notModified.increment();
+    }
+
+    /**
+     * Drop an order's response now and again after the current transaction commits
+     */
+    public void invalidate(Long orderId) {
+        invalidateNow(orderId);
+        TransactionCallbacks.afterCommit(() -> invalidateNow(orderId));
+    }
+
+    /**
+     * Drop the responses of several orders now and again after the current transaction commits
+     */
+    public void invalidateAll(Collection<Long> orderIds) {
+        orderIds.forEach(this::invalidateNow);
+        TransactionCallbacks.afterCommit(() -> orderIds.forEach(this::invalidateNow));
+    }
+
+    /**
+     * Drop, now and again after the current transaction commits, every response embedding one of the products
+     */
+    public void invalidateProducts(Collection<Long> productIds) {
+        Set<Long> changed = Set.copyOf(productIds);
+        Predicate<CachedOrderResponse> embedsChanged = response -> response.productIds().stream().anyMatch(changed::contains);
+        invalidateMatching(embedsChanged);
+        TransactionCallbacks.afterCommit(() -> invalidateMatching(embedsChanged));
+    }
+
+    /**
+     * Drop, now and again after the current transaction commits, every response embedding the client
+     */
+    public void invalidateClient(Long clientId) {
+        Predicate<CachedOrderResponse> embedsClient = response -> clientId.equals(response.clientId());
+        invalidateMatching(embedsClient);
+        TransactionCallbacks.afterCommit(() -> invalidateMatching(embedsClient));
+    }
+
+    /**
+     * Strong ETag for a serialized order: it changes whenever any byte of the body does
+     */
+    private static String etagOf(Long orderId, byte[] body) {
+        return "\"" + orderId + "-" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private static Set<Long> productIdsOf(Order order) {
+        Set<Long> productIds = new HashSet<>();
+        for (OrderItem item : order.getItems()) {
+            productIds.add(item.getProduct().getId());
+        }
+        return Set.copyOf(productIds);
+    }
+
+    private void invalidateMatching(Predicate<CachedOrderResponse> predicate) {
+        // Scans the cache; only edits to products and clients get here, and those are rare next to reads
+        responses.invalidateIf(predicate);
+    }
+
+    private void invalidateNow(Long orderId) {
+        responses.invalidate(orderId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.order_management.cache;
+
+import com.example.order_management.model.Client;
+import com.example.order_management.model.Order;
+import com.example.order_management.model.OrderItem;
+import com.example.order_management.model.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Drops cached order responses when anything they embed is changed through Spring Data REST
+ */
+@Component
+@RepositoryEventHandler
+@RequiredArgsConstructor
+public class OrderResponseInvalidationHandler {
+
+    private final OrderResponseCache orderResponseCache;
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void onOrderChanged(Order order) {
+        orderResponseCache.invalidate(order.getId());
+    }
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void onOrderItemChanged(OrderItem item) {
+        if (item.getOrder() != null) {
+            orderResponseCache.invalidate(item.getOrder().getId());
+        }
+    }
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void onProductChanged(Product product) {
+        orderResponseCache.invalidateProducts(Set.of(product.getId()));
+    }
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void onClientChanged(Client client) {
+        orderResponseCache.invalidateClient(client.getId());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.order_management.cache;
+
+import com.example.order_management.persistence.TransactionCallbacks;
+import com.example.order_management.repository.OrderRepository;
+import com.example.order_management.service.OrderTotal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-through cache of order totals.
+ * <p>
+ * Misses are answered by a projection query on {@code orders.total_amount}, so no order entity is
+ * ever hydrated. Totals are stored when an order is created and dropped whenever something that
+ * feeds them changes; bulk lookups load all misses with chunked {@code IN (...)} queries.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderTotalsCache {
+
+    // Keep IN lists well below database parameter limits
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${orders.totals-cache.maximum-size:100000}")
+    private long maximumSize;
+
+    @Value("${orders.totals-cache.ttl:30m}")
+    private Duration ttl;
+
+    private ReadThroughCache<Long, BigDecimal> totals;
+
+    @PostConstruct
+    public void init() {
+        Cache<Long, BigDecimal> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "orders.totals");
+        totals = new ReadThroughCache<>(cache);
+    }
+
+    /**
+     * Total for an order, or {@code null} if the order does not exist
+     */
+    public BigDecimal get(Long orderId) {
+        return totals.get(orderId, id -> orderRepository.findTotalAmountById(id).orElse(null));
+    }
+
+    /**
+     * Totals for the given orders. Orders that do not exist are absent from the result.
+     */
+    public Map<Long, BigDecimal> getAll(Collection<Long> orderIds) {
+        return totals.getAll(orderIds, this::loadAll);
+    }
+
+    /**
+     * Store the total of a newly created order once the current transaction commits
+     */
+    public void putAfterCommit(Long orderId, BigDecimal total) {
+        TransactionCallbacks.afterCommit(() -> totals.put(orderId, total));
+    }
+
+    /**
+     * Drop an order's total now and again after the current transaction commits, so a read racing
+     * the transaction cannot leave a stale value behind
+     */
+    public void invalidate(Long orderId) {
+        totals.invalidate(orderId);
+        TransactionCallbacks.afterCommit(() -> totals.invalidate(orderId));
+    }
+
+    private Map<Long, BigDecimal> loadAll(Set<? extends Long> orderIds) {
+        List<Long> ids = new ArrayList<>(orderIds);
+        Map<Long, BigDecimal> loaded = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size()));
+            for (OrderTotal total : orderRepository.findTotalsByIdIn(chunk)) {
+                loaded.put(total.orderId(), total.totalAmount());
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.order_management.cache;
+
+import com.example.order_management.model.Order;
+import com.example.order_management.model.OrderItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached order totals when orders or their items are changed through Spring Data REST
+ */
+@Component
+@RepositoryEventHandler
+@RequiredArgsConstructor
+public class OrderTotalsInvalidationHandler {
+
+    private final OrderTotalsCache orderTotalsCache;
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void onOrderChanged(Order order) {
+        orderTotalsCache.invalidate(order.getId());
+    }
+
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void onOrderItemChanged(OrderItem item) {
+        if (item.getOrder() != null) {
+            orderTotalsCache.invalidate(item.getOrder().getId());
+        }
+    }
+}
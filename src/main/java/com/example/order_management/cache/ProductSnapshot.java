@@ -0,0 +1,31 @@
+package com.example.order_management.cache;
+
+import com.example.order_management.model.Money;
+import com.example.order_management.model.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * Cached, immutable view of a product. Stock is deliberately left out: it changes on every
+ * order and is owned by the stock reservation ledger. The price is also kept in minor units, so
+ * pricing an order line does not convert it again.
+ */
+public record ProductSnapshot(Long id, String name, String description, BigDecimal price, long priceMinorUnits,
+                              String category) {
+
+    public static ProductSnapshot of(Product product) {
+        return new ProductSnapshot(product.getId(), product.getName(), product.getDescription(),
+                product.getPrice(), Money.toMinorUnits(product.getPrice()), product.getCategory());
+    }
+
+    /**
+     * Rough retained size in bytes, used to weigh cache entries
+     */
+    int estimatedBytes() {
+        return 96 + 2 * (length(name) + length(description) + length(category));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
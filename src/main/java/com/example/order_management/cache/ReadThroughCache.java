@@ -0,0 +1,72 @@
+package com.example.order_management.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Read-through access to a Caffeine cache whose loaders block on the database.
+ * <p>
+ * Single-key misses are loaded outside Caffeine's compute lock, so a virtual thread does not pin
+ * while querying. The price is that a load can race an invalidation of the same entry; every
+ * invalidation bumps a stamp, and a load that overlapped one is returned to its caller but not kept.
+ */
+final class ReadThroughCache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    ReadThroughCache(Cache<K, V> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Cached value for a key, loading it on a miss. A {@code null} load is returned but not cached.
+     */
+    V get(K key, Function<? super K, ? extends V> loader) {
+        V value = cache.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        long stamp = invalidations.get();
+        value = loader.apply(key);
+        if (value != null) {
+            cache.put(key, value);
+            // An invalidation since the load may have missed the entry we just stored
+            if (invalidations.get() != stamp) {
+                cache.invalidate(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Cached values for several keys; misses are handed to the bulk loader in one call
+     */
+    Map<K, V> getAll(Collection<? extends K> keys, Function<Set<? extends K>, Map<? extends K, ? extends V>> loader) {
+        return cache.getAll(keys, loader);
+    }
+
+    void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    void invalidate(K key) {
+        invalidations.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    /**
+     * Drop every entry matching the predicate. Scans the cache, so keep it off hot paths.
+     */
+    void invalidateIf(Predicate<? super V> predicate) {
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(predicate);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.order_management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual-thread execution mode, switched on with {@code spring.threads.virtual.enabled=true}.
+ * <p>
+ * Spring Boot then runs Tomcat, and with it REST, GraphQL and the SOAP
+ * {@code MessageDispatcherServlet}, on virtual threads; this configuration does the same for the
+ * gRPC server. The notification client channel follows the same property.
+ * <p>
+ * JDBC drivers such as H2 block inside {@code synchronized} blocks, which pins the carrier thread
+ * on Java 21. Pinning is bounded by the connection pool: only threads holding a connection can be
+ * inside the driver, so the pool is kept smaller than the number of carrier threads. Unless
+ * {@code spring.datasource.hikari.maximum-pool-size} is set, the pool is sized one below the
+ * carriers. Run with {@code -Djdk.tracePinnedThreads=short} to log any other pinning.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    private static final String POOL_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+
+    // Not a bean: an Executor bean would switch off Spring Boot's applicationTaskExecutor
+    private final ExecutorService grpcExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public GrpcServerConfigurer virtualThreadGrpcServerConfigurer() {
+        return serverBuilder -> serverBuilder.executor(grpcExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // The gRPC server depends on the configurer, so it has stopped by now; wait for calls still finishing
+        grpcExecutor.close();
+    }
+
+    /**
+     * Default the connection pool to one below the carrier count, keeping a carrier free of the driver
+     */
+    @Bean
+    public static BeanPostProcessor virtualThreadPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari && !environment.containsProperty(POOL_SIZE_PROPERTY)) {
+                    hikari.setMaximumPoolSize(defaultPoolSize(carriers()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Warn when every carrier thread could end up pinned inside the JDBC driver at once
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkPinningHeadroom(ApplicationReadyEvent event) {
+        int carriers = carriers();
+        DataSource dataSource = event.getApplicationContext().getBean(DataSource.class);
+        // A single carrier cannot be kept free; the one-connection default is as close as it gets
+        if (dataSource instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() > defaultPoolSize(carriers)) {
+            log.warn("Connection pool size {} is not below the {} virtual thread carriers; threads pinned in the " +
+                            "JDBC driver can starve all other requests. Lower " + POOL_SIZE_PROPERTY +
+                            " or raise jdk.virtualThreadScheduler.parallelism",
+                    hikari.getMaximumPoolSize(), carriers);
+        }
+        log.info("Virtual-thread mode enabled for servlet and gRPC requests ({} carriers)", carriers);
+    }
+
+    private static int defaultPoolSize(int carriers) {
+        return Math.max(1, carriers - 1);
+    }
+
+    private static int carriers() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                Runtime.getRuntime().availableProcessors());
+    }
+}
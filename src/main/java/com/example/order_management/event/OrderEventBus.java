@@ -0,0 +1,187 @@
+package com.example.order_management.event;
+
+import com.example.order_management.persistence.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process fan-out of order status events to per-client subscribers.
+ * <p>
+ * Publishing only appends to each matching subscriber's buffer and never waits on delivery. Each
+ * buffer is bounded and conflating: it holds at most one undelivered event per order, so a slow
+ * subscriber sees the latest status of every order it fell behind on rather than every step. When
+ * a buffer still overflows, its oldest order is dropped. Buffers are drained on virtual threads
+ * as fast as each subscriber requests.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderEventBus {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${orders.events.subscriber-buffer-size:256}")
+    private int bufferSize;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ExecutorService deliveryExecutor;
+
+    private Counter published;
+    private Counter conflated;
+    private Counter dropped;
+
+    private final class Subscriber {
+        private final FluxSink<OrderStatusEvent> sink;
+        private final LinkedHashMap<Long, OrderStatusEvent> pending = new LinkedHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Subscriber(FluxSink<OrderStatusEvent> sink) {
+            this.sink = sink;
+        }
+
+        private void offer(OrderStatusEvent event) {
+            lock.lock();
+            try {
+                // Conflate: the newest event for an order replaces an undelivered one and moves to the back
+                OrderStatusEvent replaced = pending.remove(event.orderId());
+                if (replaced != null) {
+                    event = event.since(replaced);
+                    conflated.increment();
+                } else if (pending.size() >= bufferSize) {
+                    Iterator<OrderStatusEvent> oldest = pending.values().iterator();
+                    oldest.next();
+                    oldest.remove();
+                    dropped.increment();
+                }
+                pending.put(event.orderId(), event);
+            } finally {
+                lock.unlock();
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (wip.getAndIncrement() == 0) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                while (sink.requestedFromDownstream() > 0 && !sink.isCancelled()) {
+                    OrderStatusEvent next = poll();
+                    if (next == null) {
+                        break;
+                    }
+                    sink.next(next);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private OrderStatusEvent poll() {
+            lock.lock();
+            try {
+                Iterator<OrderStatusEvent> oldest = pending.values().iterator();
+                if (!oldest.hasNext()) {
+                    return null;
+                }
+                OrderStatusEvent next = oldest.next();
+                oldest.remove();
+                return next;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        deliveryExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-events-", 0).factory());
+        Gauge.builder("orders.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Active order status subscriptions")
+                .register(meterRegistry);
+        published = meterRegistry.counter("orders.events.published");
+        conflated = meterRegistry.counter("orders.events.conflated");
+        dropped = meterRegistry.counter("orders.events.dropped");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(clientSubscribers -> clientSubscribers.forEach(s -> s.sink.complete()));
+        deliveryExecutor.shutdown();
+    }
+
+    /**
+     * Status events for a client's orders from now on
+     */
+    public Flux<OrderStatusEvent> subscribe(Long clientId) {
+        return Flux.create(sink -> {
+            Subscriber subscriber = new Subscriber(sink);
+            subscribers.compute(clientId, (id, clientSubscribers) -> {
+                Set<Subscriber> set = clientSubscribers != null ? clientSubscribers : ConcurrentHashMap.newKeySet();
+                set.add(subscriber);
+                return set;
+            });
+            subscriberCount.incrementAndGet();
+            log.debug("Subscribed to order status events for client ID: {}", clientId);
+
+            sink.onRequest(n -> subscriber.scheduleDrain());
+            sink.onDispose(() -> {
+                subscribers.computeIfPresent(clientId, (id, clientSubscribers) -> {
+                    clientSubscribers.remove(subscriber);
+                    return clientSubscribers.isEmpty() ? null : clientSubscribers;
+                });
+                subscriberCount.decrementAndGet();
+            });
+        }, FluxSink.OverflowStrategy.ERROR);
+    }
+
+    /**
+     * Whether anyone is subscribed at all; lets publishers skip building events nobody reads
+     */
+    public boolean hasSubscribers() {
+        return subscriberCount.get() > 0;
+    }
+
+    /**
+     * Publish an event once the current transaction commits, or immediately if there is none
+     */
+    public void publishAfterCommit(OrderStatusEvent event) {
+        TransactionCallbacks.afterCommit(() -> publish(event));
+    }
+
+    /**
+     * Hand an event to every subscriber of its client without waiting for delivery
+     */
+    public void publish(OrderStatusEvent event) {
+        published.increment();
+        Set<Subscriber> clientSubscribers = subscribers.get(event.clientId());
+        if (clientSubscribers != null) {
+            clientSubscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.order_management.event;
+
+import com.example.order_management.model.Order;
+
+import java.time.LocalDateTime;
+
+/**
+ * An order reaching a new status, as delivered to subscribers
+ *
+ * @param previousStatus the status before the change, or {@code null} for a new order
+ */
+public record OrderStatusEvent(
+        Long orderId,
+        Long clientId,
+        Order.OrderStatus previousStatus,
+        Order.OrderStatus status,
+        LocalDateTime occurredAt) {
+
+    /**
+     * This event, reporting the change as starting from an earlier event's previous status
+     */
+    public OrderStatusEvent since(OrderStatusEvent earlier) {
+        return new OrderStatusEvent(orderId, clientId, earlier.previousStatus(), status, occurredAt);
+    }
+}
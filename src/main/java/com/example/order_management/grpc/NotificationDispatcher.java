@@ -0,0 +1,220 @@
+package com.example.order_management.grpc;
+
+import com.example.notification.BatchNotificationResponse;
+import com.example.notification.OrderNotificationRequest;
+import com.example.order_management.persistence.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decouples order notifications from the request path.
+ * <p>
+ * Notifications are enqueued once the surrounding transaction commits into a bounded, lock-free
+ * queue. A single background sender drains the queue in batches, each sent as one client-streaming
+ * call, so order creation never waits on a network round trip.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatcher {
+
+    /**
+     * What to do with a notification when the queue is full
+     */
+    public enum OverflowPolicy {
+        /** Discard the notification being enqueued */
+        DROP_NEWEST,
+        /** Discard the oldest queued notification to make room */
+        DROP_OLDEST
+    }
+
+    private record PendingNotification(OrderNotificationRequest request, long enqueuedAt) {
+    }
+
+    // The call's own deadline fails it first; this only bounds a call that never reports back
+    private static final long DEADLINE_GRACE_MS = 1000;
+
+    private final NotificationGrpcClient notificationClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.dispatcher.capacity:10000}")
+    private int capacity;
+
+    @Value("${notification.dispatcher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.dispatcher.overflow-policy:DROP_OLDEST}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${notification.dispatcher.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final Queue<PendingNotification> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread sender;
+
+    private Counter droppedCounter;
+    private Counter sentCounter;
+    private Counter failedCounter;
+    private Timer sendLatency;
+    private Timer queueWait;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("notifications.queue.depth", queueSize, AtomicInteger::get)
+                .description("Notifications waiting to be sent")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("notifications.dropped")
+                .tag("policy", overflowPolicy.name())
+                .register(meterRegistry);
+        sentCounter = meterRegistry.counter("notifications.sent", "outcome", "success");
+        failedCounter = meterRegistry.counter("notifications.sent", "outcome", "failure");
+        sendLatency = meterRegistry.timer("notifications.send.latency");
+        queueWait = meterRegistry.timer("notifications.queue.wait");
+
+        running = true;
+        sender = new Thread(this::drainLoop, "notification-dispatcher");
+        sender.setDaemon(true);
+        sender.start();
+        log.info("Notification dispatcher started (capacity={}, batchSize={}, overflowPolicy={})",
+                capacity, batchSize, overflowPolicy);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(sender);
+        try {
+            sender.join(sendTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Notification dispatcher stopped with {} notifications still queued", queueSize.get());
+    }
+
+    /**
+     * Enqueue a notification once the current transaction commits, or immediately if there is none
+     */
+    public void publishAfterCommit(OrderNotificationRequest request) {
+        TransactionCallbacks.afterCommit(() -> enqueue(request));
+    }
+
+    /**
+     * Enqueue a notification, applying the overflow policy when the queue is full
+     *
+     * @return {@code false} if the notification was dropped
+     */
+    public boolean enqueue(OrderNotificationRequest request) {
+        PendingNotification pending = new PendingNotification(request, System.nanoTime());
+
+        while (true) {
+            int current = queueSize.get();
+            if (current < capacity) {
+                if (queueSize.compareAndSet(current, current + 1)) {
+                    queue.offer(pending);
+                    LockSupport.unpark(sender);
+                    return true;
+                }
+                continue;
+            }
+
+            switch (overflowPolicy) {
+                case DROP_NEWEST -> {
+                    droppedCounter.increment();
+                    log.warn("Notification queue full, dropping notification for order {}", request.getOrderId());
+                    return false;
+                }
+                case DROP_OLDEST -> {
+                    PendingNotification oldest = queue.poll();
+                    if (oldest != null) {
+                        queueSize.decrementAndGet();
+                        droppedCounter.increment();
+                        log.warn("Notification queue full, dropping notification for order {}",
+                                oldest.request().getOrderId());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of notifications waiting to be sent
+     */
+    public int queueDepth() {
+        return queueSize.get();
+    }
+
+    private void drainLoop() {
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (running || queueSize.get() > 0) {
+            PendingNotification next;
+            while (batch.size() < batchSize && (next = queue.poll()) != null) {
+                queueSize.decrementAndGet();
+                batch.add(next);
+            }
+
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+                continue;
+            }
+
+            try {
+                send(batch);
+            } catch (RuntimeException e) {
+                log.error("Error sending notification batch via gRPC", e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void send(List<PendingNotification> batch) {
+        long sentAt = System.nanoTime();
+        List<OrderNotificationRequest> requests = new ArrayList<>(batch.size());
+        for (PendingNotification pending : batch) {
+            queueWait.record(sentAt - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+            requests.add(pending.request());
+        }
+
+        // Keep a single batch in flight so a slow notification service pushes back on the queue
+        CompletableFuture<BatchNotificationResponse> call =
+                notificationClient.sendOrderNotifications(requests, Duration.ofMillis(sendTimeoutMs));
+        try {
+            BatchNotificationResponse response = call.get(sendTimeoutMs + DEADLINE_GRACE_MS, TimeUnit.MILLISECONDS);
+            sendLatency.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+            sentCounter.increment(response.getAccepted());
+            failedCounter.increment(response.getFailed());
+            if (response.getFailed() > 0) {
+                log.warn("Notifications failed for orders: {}", response.getFailedOrderIdsList());
+            }
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            call.cancel(true);
+            failedCounter.increment(batch.size());
+            log.error("Error sending {} notifications via gRPC", batch.size(), e);
+        }
+    }
+}
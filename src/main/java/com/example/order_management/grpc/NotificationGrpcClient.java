@@ -1,16 +1,25 @@
 package com.example.order_management.grpc;
 
+import com.example.notification.BatchNotificationResponse;
+import com.example.notification.NotificationBatchAck;
 import com.example.notification.NotificationServiceGrpc;
 import com.example.notification.OrderNotificationRequest;
 import com.example.notification.OrderNotificationResponse;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.annotation.PostConstruct;
-import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
@@ -19,15 +28,26 @@ public class NotificationGrpcClient {
     @Value("${grpc.server.port:9090}")
     private int grpcPort;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     private ManagedChannel channel;
+    private ExecutorService callbackExecutor;
     private NotificationServiceGrpc.NotificationServiceBlockingStub blockingStub;
+    private NotificationServiceGrpc.NotificationServiceStub asyncStub;
 
     @PostConstruct
     public void init() {
-        channel = ManagedChannelBuilder.forAddress("localhost", grpcPort)
-                .usePlaintext()
-                .build();
+        ManagedChannelBuilder<?> channelBuilder = ManagedChannelBuilder.forAddress("localhost", grpcPort)
+                .usePlaintext();
+        if (virtualThreads) {
+            // Run response callbacks on virtual threads instead of the shared cached pool
+            callbackExecutor = Executors.newVirtualThreadPerTaskExecutor();
+            channelBuilder.executor(callbackExecutor);
+        }
+        channel = channelBuilder.build();
         blockingStub = NotificationServiceGrpc.newBlockingStub(channel);
+        asyncStub = NotificationServiceGrpc.newStub(channel);
         log.info("gRPC client initialized for NotificationService on port {}", grpcPort);
     }
 
@@ -37,6 +57,10 @@ public class NotificationGrpcClient {
             channel.shutdown();
             log.info("gRPC client channel shut down");
         }
+        if (callbackExecutor != null) {
+            // The channel does not own an executor it was given, so close it once in-flight callbacks finish
+            callbackExecutor.shutdown();
+        }
     }
 
     public OrderNotificationResponse sendOrderNotification(
@@ -49,15 +73,8 @@ public class NotificationGrpcClient {
             String message) {
 
         try {
-            OrderNotificationRequest request = OrderNotificationRequest.newBuilder()
-                    .setOrderId(orderId)
-                    .setClientId(clientId)
-                    .setClientName(clientName)
-                    .setClientEmail(clientEmail)
-                    .setTotalAmount(totalAmount)
-                    .setStatus(status)
-                    .setMessage(message)
-                    .build();
+            OrderNotificationRequest request = buildRequest(
+                    orderId, clientId, clientName, clientEmail, totalAmount, status, message);
 
             log.info("Sending notification via gRPC for order: {}", orderId);
             return blockingStub.sendOrderNotification(request);
@@ -72,5 +89,89 @@ public class NotificationGrpcClient {
                     .build();
         }
     }
-}
 
+    /**
+     * Send a notification without blocking; the outcome is reported to the given observer
+     */
+    public void sendOrderNotificationAsync(OrderNotificationRequest request,
+                                           StreamObserver<OrderNotificationResponse> responseObserver) {
+        log.debug("Sending async notification via gRPC for order: {}", request.getOrderId());
+        asyncStub.sendOrderNotification(request, responseObserver);
+    }
+
+    /**
+     * Send a batch of notifications over a single client-streaming call.
+     * The call fails with {@code DEADLINE_EXCEEDED} once the deadline passes, and cancelling the
+     * returned future cancels the call.
+     */
+    public CompletableFuture<BatchNotificationResponse> sendOrderNotifications(List<OrderNotificationRequest> requests,
+                                                                               Duration deadline) {
+        CompletableFuture<BatchNotificationResponse> result = new CompletableFuture<>();
+
+        StreamObserver<OrderNotificationRequest> requestObserver = asyncStub
+                .withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .sendOrderNotifications(new StreamObserver<>() {
+                    @Override
+                    public void onNext(BatchNotificationResponse response) {
+                        result.complete(response);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        if (!result.isDone()) {
+                            result.completeExceptionally(new IllegalStateException("Stream completed without a response"));
+                        }
+                    }
+                });
+
+        // An error on the request side cancels the call, so the server stops on a batch nobody waits for
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                requestObserver.onError(error);
+            }
+        });
+
+        log.debug("Streaming {} notifications via gRPC", requests.size());
+        try {
+            requests.forEach(requestObserver::onNext);
+            requestObserver.onCompleted();
+        } catch (RuntimeException e) {
+            requestObserver.onError(e);
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Open a bidirectional notification stream; acknowledgements arrive in batches on the given observer.
+     * Callers push requests with {@code onNext} and close the stream with {@code onCompleted}.
+     */
+    public StreamObserver<OrderNotificationRequest> openNotificationStream(StreamObserver<NotificationBatchAck> ackObserver) {
+        return asyncStub.streamOrderNotifications(ackObserver);
+    }
+
+    public static OrderNotificationRequest buildRequest(
+            Long orderId,
+            Long clientId,
+            String clientName,
+            String clientEmail,
+            Double totalAmount,
+            String status,
+            String message) {
+
+        return OrderNotificationRequest.newBuilder()
+                .setOrderId(orderId)
+                .setClientId(clientId)
+                .setClientName(clientName)
+                .setClientEmail(clientEmail)
+                .setTotalAmount(totalAmount)
+                .setStatus(status)
+                .setMessage(message)
+                .build();
+    }
+}
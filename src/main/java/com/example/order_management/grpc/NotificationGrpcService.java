@@ -1,7 +1,11 @@
 package com.example.order_management.grpc;
 
 import com.example.notification.*;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
 
@@ -9,16 +13,39 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 @GrpcService
+@RequiredArgsConstructor
 @Slf4j
 public class NotificationGrpcService extends NotificationServiceGrpc.NotificationServiceImplBase {
 
-    // In-memory storage for notification history (in production, use a database)
-    private final Map<Long, List<NotificationRecord>> notificationHistory = new ConcurrentHashMap<>();
+    // Number of notifications acknowledged at once on a bidirectional stream
+    private static final int ACK_BATCH_SIZE = 100;
+
+    // Number of records per message when streaming history
+    private static final int HISTORY_CHUNK_SIZE = 100;
+
+    // Page size bounds for paginated history
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    // Bounded in-memory storage for notification history
+    private final NotificationHistoryStore historyStore;
+
+    // Durable notification log, present when notification.log.enabled is set
+    private final Optional<NotificationLog> notificationLog;
+
+    @PostConstruct
+    public void replayHistory() {
+        notificationLog.ifPresent(durableLog -> {
+            durableLog.replay(historyStore::append);
+            log.info("Replayed notification history from durable log: {}", historyStore.stats());
+        });
+    }
 
     @Override
     public void sendOrderNotification(OrderNotificationRequest request,
@@ -28,22 +55,7 @@ public class NotificationGrpcService extends NotificationServiceGrpc.Notificatio
                 request.getOrderId(), request.getClientName());
 
         try {
-            // Simulate sending notification (email, SMS, push notification, etc.)
-            String notificationId = UUID.randomUUID().toString();
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-
-            // Store notification in history
-            NotificationRecord record = NotificationRecord.newBuilder()
-                    .setNotificationId(notificationId)
-                    .setOrderId(request.getOrderId())
-                    .setMessage(request.getMessage())
-                    .setTimestamp(timestamp)
-                    .setStatus("SENT")
-                    .build();
-
-            notificationHistory.computeIfAbsent(request.getClientId(), k -> new ArrayList<>())
-                    .add(record);
-
+            String notificationId = recordNotification(request).getNotificationId();
             log.info("Notification sent successfully. ID: {}", notificationId);
 
             // Build response
@@ -69,19 +81,108 @@ public class NotificationGrpcService extends NotificationServiceGrpc.Notificatio
         }
     }
 
+    @Override
+    public StreamObserver<OrderNotificationRequest> sendOrderNotifications(
+            StreamObserver<BatchNotificationResponse> responseObserver) {
+
+        return new StreamObserver<>() {
+            private int accepted;
+            private final List<Long> failedOrderIds = new ArrayList<>();
+
+            @Override
+            public void onNext(OrderNotificationRequest request) {
+                try {
+                    recordNotification(request);
+                    accepted++;
+                } catch (Exception e) {
+                    log.error("Error sending notification for order ID: {}", request.getOrderId(), e);
+                    failedOrderIds.add(request.getOrderId());
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("Notification stream aborted by client after {} notifications", accepted, t);
+            }
+
+            @Override
+            public void onCompleted() {
+                log.info("Notification stream completed: {} sent, {} failed", accepted, failedOrderIds.size());
+
+                responseObserver.onNext(BatchNotificationResponse.newBuilder()
+                        .setAccepted(accepted)
+                        .setFailed(failedOrderIds.size())
+                        .addAllFailedOrderIds(failedOrderIds)
+                        .build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    @Override
+    public StreamObserver<OrderNotificationRequest> streamOrderNotifications(
+            StreamObserver<NotificationBatchAck> responseObserver) {
+
+        return new StreamObserver<>() {
+            private int accepted;
+            private long lastOrderId;
+            private final List<Long> failedOrderIds = new ArrayList<>();
+
+            @Override
+            public void onNext(OrderNotificationRequest request) {
+                try {
+                    recordNotification(request);
+                    accepted++;
+                } catch (Exception e) {
+                    log.error("Error sending notification for order ID: {}", request.getOrderId(), e);
+                    failedOrderIds.add(request.getOrderId());
+                }
+                lastOrderId = request.getOrderId();
+
+                if (accepted + failedOrderIds.size() >= ACK_BATCH_SIZE) {
+                    acknowledge();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("Notification stream aborted by client", t);
+            }
+
+            @Override
+            public void onCompleted() {
+                if (accepted + failedOrderIds.size() > 0) {
+                    acknowledge();
+                }
+                responseObserver.onCompleted();
+            }
+
+            private void acknowledge() {
+                responseObserver.onNext(NotificationBatchAck.newBuilder()
+                        .setLastOrderId(lastOrderId)
+                        .setAccepted(accepted)
+                        .setFailed(failedOrderIds.size())
+                        .addAllFailedOrderIds(failedOrderIds)
+                        .build());
+                accepted = 0;
+                failedOrderIds.clear();
+            }
+        };
+    }
+
     @Override
     public void getNotificationHistory(NotificationHistoryRequest request,
                                        StreamObserver<NotificationHistoryResponse> responseObserver) {
 
         log.info("Fetching notification history for client ID: {}", request.getClientId());
 
-        List<NotificationRecord> records = notificationHistory.getOrDefault(
-                request.getClientId(), new ArrayList<>());
-
         // Apply limit if specified
-        int limit = request.getLimit() > 0 ? request.getLimit() : records.size();
-        List<NotificationRecord> limitedRecords = records.subList(
-                Math.max(0, records.size() - limit), records.size());
+        List<NotificationRecord> limitedRecords = historyStore.latest(request.getClientId(), request.getLimit());
+
+        // Fall back to the durable log for clients evicted from memory
+        if (limitedRecords.isEmpty() && notificationLog.isPresent()) {
+            limitedRecords = notificationLog.get().latest(request.getClientId(), request.getLimit());
+        }
 
         NotificationHistoryResponse response = NotificationHistoryResponse.newBuilder()
                 .addAllNotifications(limitedRecords)
@@ -90,5 +191,112 @@ public class NotificationGrpcService extends NotificationServiceGrpc.Notificatio
         responseObserver.onNext(response);
         responseObserver.onCompleted();
     }
-}
 
+    @Override
+    public void streamNotificationHistory(NotificationHistoryRequest request,
+                                          StreamObserver<NotificationHistoryResponse> responseObserver) {
+
+        log.info("Streaming notification history for client ID: {}", request.getClientId());
+
+        long clientId = request.getClientId();
+        long end = historyStore.nextSequence(clientId);
+        long start = request.getLimit() > 0 ? Math.max(0, end - request.getLimit()) : 0;
+
+        // Emit one chunk at a time, only while the transport can take more
+        ServerCallStreamObserver<NotificationHistoryResponse> serverObserver =
+                (ServerCallStreamObserver<NotificationHistoryResponse>) responseObserver;
+        AtomicLong position = new AtomicLong(start);
+        AtomicBoolean completed = new AtomicBoolean();
+
+        serverObserver.setOnCancelHandler(() ->
+                log.info("History stream cancelled for client ID: {}", clientId));
+        serverObserver.setOnReadyHandler(() -> {
+            while (serverObserver.isReady() && !serverObserver.isCancelled() && position.get() < end) {
+                int chunkSize = (int) Math.min(HISTORY_CHUNK_SIZE, end - position.get());
+                List<NotificationRecord> chunk = historyStore.read(clientId, position.get(), chunkSize);
+                if (chunk.isEmpty()) {
+                    position.set(end);
+                    break;
+                }
+                serverObserver.onNext(NotificationHistoryResponse.newBuilder()
+                        .addAllNotifications(chunk)
+                        .build());
+                position.set(chunk.get(chunk.size() - 1).getSequence() + 1);
+            }
+
+            if (position.get() >= end && !serverObserver.isCancelled() && completed.compareAndSet(false, true)) {
+                serverObserver.onCompleted();
+            }
+        });
+    }
+
+    @Override
+    public void getNotificationHistoryPage(NotificationHistoryPageRequest request,
+                                           StreamObserver<NotificationHistoryPageResponse> responseObserver) {
+
+        log.info("Fetching notification history page for client ID: {}", request.getClientId());
+
+        // Page tokens are "<epoch>:<sequence>", so a token outlives neither an eviction nor a restart
+        long epoch = 0;
+        long from = 0;
+        if (!request.getPageToken().isEmpty()) {
+            String[] parts = request.getPageToken().split(":", 2);
+            try {
+                if (parts.length != 2) {
+                    throw new NumberFormatException();
+                }
+                epoch = Long.parseLong(parts[0]);
+                from = Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                responseObserver.onError(Status.INVALID_ARGUMENT
+                        .withDescription("Invalid page token: " + request.getPageToken())
+                        .asRuntimeException());
+                return;
+            }
+        }
+
+        int pageSize = request.getPageSize() > 0 ? Math.min(request.getPageSize(), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+
+        NotificationHistoryStore.Page page;
+        try {
+            page = historyStore.readPage(request.getClientId(), epoch, from, pageSize);
+        } catch (IllegalStateException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Stale page token, restart paging without one: " + e.getMessage())
+                    .asRuntimeException());
+            return;
+        }
+
+        List<NotificationRecord> records = page.records();
+        NotificationHistoryPageResponse.Builder response = NotificationHistoryPageResponse.newBuilder()
+                .addAllNotifications(records);
+        if (page.hasMore()) {
+            response.setNextPageToken(page.epoch() + ":" + (records.get(records.size() - 1).getSequence() + 1));
+        }
+
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    private NotificationRecord recordNotification(OrderNotificationRequest request) {
+        // Simulate sending notification (email, SMS, push notification, etc.)
+        String notificationId = UUID.randomUUID().toString();
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        // Store notification in history
+        NotificationRecord record = NotificationRecord.newBuilder()
+                .setNotificationId(notificationId)
+                .setOrderId(request.getOrderId())
+                .setMessage(request.getMessage())
+                .setTimestamp(timestamp)
+                .setStatus("SENT")
+                .build();
+
+        record = historyStore.append(request.getClientId(), record);
+        NotificationRecord stored = record;
+        notificationLog.ifPresent(durableLog -> durableLog.append(request.getClientId(), stored));
+
+        log.debug("Notification sent successfully. ID: {}", notificationId);
+        return record;
+    }
+}
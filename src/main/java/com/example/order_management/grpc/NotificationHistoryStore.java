@@ -0,0 +1,273 @@
+package com.example.order_management.grpc;
+
+import com.example.notification.NotificationRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded in-memory notification history.
+ * <p>
+ * Each client gets a fixed-capacity ring buffer; appends claim a sequence number with an atomic
+ * increment and publish into their slot, so readers never lock and writers only share a read lock
+ * that eviction takes exclusively. Retained bytes are tracked globally, and when they exceed the
+ * configured budget the least recently used clients are evicted as a whole.
+ * <p>
+ * Sequence numbers restart at zero when an evicted client comes back, so every history also gets
+ * an epoch, unique within and across runs. Cursors that carry the epoch they were issued in are
+ * rejected once that history is gone, rather than silently pointing into the new one.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationHistoryStore {
+
+    /**
+     * One page of a client's history
+     *
+     * @param epoch   epoch of the history the page was read from
+     * @param hasMore whether records past the last one on the page were already appended
+     */
+    public record Page(long epoch, List<NotificationRecord> records, boolean hasMore) {
+    }
+
+    /**
+     * Point-in-time store statistics
+     */
+    public record Stats(int clients, long bytesRetained, long evictions, long overwrites) {
+    }
+
+    private record Slot(long sequence, NotificationRecord record, int size) {
+    }
+
+    private record EvictionCandidate(Long clientId, ClientHistory history, long lastAccess) {
+    }
+
+    private static final class ClientHistory {
+        private final long epoch;
+        private final AtomicReferenceArray<Slot> slots;
+        private final AtomicLong nextSequence = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        // Appends share the read side; eviction takes the write side, so no append lands after it
+        private final ReentrantReadWriteLock guard = new ReentrantReadWriteLock();
+        private volatile long lastAccess = System.nanoTime();
+        private boolean evicted;
+
+        private ClientHistory(long epoch, int capacity) {
+            this.epoch = epoch;
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.history.per-client-capacity:1000}")
+    private int perClientCapacity;
+
+    @Value("${notification.history.max-bytes:67108864}")
+    private long maxBytes;
+
+    private final Map<Long, ClientHistory> clients = new ConcurrentHashMap<>();
+    private final AtomicLong bytesRetained = new AtomicLong();
+    // Seeded from the clock so epochs from an earlier run are never reused
+    private final AtomicLong lastEpoch = new AtomicLong(System.currentTimeMillis());
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private Counter evictions;
+    private Counter overwrites;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("notifications.history.bytes", bytesRetained, AtomicLong::get)
+                .description("Serialized bytes retained by the notification history")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("notifications.history.clients", clients, Map::size)
+                .description("Clients with retained notification history")
+                .register(meterRegistry);
+        evictions = meterRegistry.counter("notifications.history.evictions");
+        overwrites = meterRegistry.counter("notifications.history.overwrites");
+    }
+
+    /**
+     * Append a record to a client's history
+     *
+     * @return the stored record, carrying its sequence number
+     */
+    public NotificationRecord append(long clientId, NotificationRecord record) {
+        while (true) {
+            ClientHistory history = clients.computeIfAbsent(clientId,
+                    id -> new ClientHistory(lastEpoch.incrementAndGet(), perClientCapacity));
+            NotificationRecord stored;
+            history.guard.readLock().lock();
+            try {
+                if (history.evicted) {
+                    // Lost a race with eviction; retry on a fresh buffer
+                    continue;
+                }
+                history.lastAccess = System.nanoTime();
+
+                long sequence = history.nextSequence.getAndIncrement();
+                stored = record.toBuilder().setSequence(sequence).build();
+                int size = stored.getSerializedSize();
+
+                Slot previous = history.slots.getAndSet(slotIndex(sequence), new Slot(sequence, stored, size));
+                long delta = size - (previous != null ? previous.size() : 0);
+                history.bytes.addAndGet(delta);
+                bytesRetained.addAndGet(delta);
+                if (previous != null) {
+                    overwrites.increment();
+                }
+            } finally {
+                history.guard.readLock().unlock();
+            }
+
+            if (bytesRetained.get() > maxBytes) {
+                evictIdleClients();
+            }
+            return stored;
+        }
+    }
+
+    /**
+     * The most recent records for a client, oldest first
+     *
+     * @param limit maximum number of records, or 0 for everything retained
+     */
+    public List<NotificationRecord> latest(long clientId, int limit) {
+        ClientHistory history = clients.get(clientId);
+        if (history == null) {
+            return List.of();
+        }
+        long end = history.nextSequence.get();
+        int count = limit > 0 ? Math.min(limit, perClientCapacity) : perClientCapacity;
+        return read(history, Math.max(0, end - count), count);
+    }
+
+    /**
+     * Records for a client starting at the given sequence number, oldest first.
+     * Records that have already been overwritten are skipped.
+     */
+    public List<NotificationRecord> read(long clientId, long fromSequence, int maxRecords) {
+        ClientHistory history = clients.get(clientId);
+        if (history == null) {
+            return List.of();
+        }
+        return read(history, fromSequence, maxRecords);
+    }
+
+    /**
+     * A page of a client's records starting at the given sequence number, oldest first.
+     * Records that have already been overwritten are skipped.
+     *
+     * @param epoch epoch of the history {@code fromSequence} belongs to, or 0 to read the current history
+     * @throws IllegalStateException if the history of that epoch has been evicted since
+     */
+    public Page readPage(long clientId, long epoch, long fromSequence, int maxRecords) {
+        ClientHistory history = clients.get(clientId);
+        if (history == null) {
+            if (epoch != 0) {
+                throw new IllegalStateException("Notification history for client " + clientId + " was evicted");
+            }
+            return new Page(0, List.of(), false);
+        }
+        if (epoch != 0 && epoch != history.epoch) {
+            throw new IllegalStateException("Notification history for client " + clientId + " was evicted");
+        }
+
+        List<NotificationRecord> records = read(history, fromSequence, maxRecords);
+        boolean hasMore = !records.isEmpty()
+                && records.get(records.size() - 1).getSequence() + 1 < history.nextSequence.get();
+        return new Page(history.epoch, records, hasMore);
+    }
+
+    /**
+     * Sequence number the next record for a client will get
+     */
+    public long nextSequence(long clientId) {
+        ClientHistory history = clients.get(clientId);
+        return history != null ? history.nextSequence.get() : 0;
+    }
+
+    public Stats stats() {
+        return new Stats(clients.size(), bytesRetained.get(),
+                (long) evictions.count(), (long) overwrites.count());
+    }
+
+    private List<NotificationRecord> read(ClientHistory history, long fromSequence, int maxRecords) {
+        history.lastAccess = System.nanoTime();
+
+        long end = history.nextSequence.get();
+        long start = Math.max(Math.max(fromSequence, 0), end - perClientCapacity);
+        long stop = Math.min(end, start + maxRecords);
+
+        List<NotificationRecord> records = new ArrayList<>((int) Math.max(0, stop - start));
+        for (long sequence = start; sequence < stop; sequence++) {
+            Slot slot = history.slots.get(slotIndex(sequence));
+            // Skip slots still being written or already overwritten by a newer record
+            if (slot != null && slot.sequence() == sequence) {
+                records.add(slot.record());
+            }
+        }
+        return records;
+    }
+
+    private void evictIdleClients() {
+        // A single thread evicts at a time; everyone else carries on appending
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            // Evict down to 90% of the budget so we do not evict on every append
+            long target = maxBytes - maxBytes / 10;
+            if (bytesRetained.get() <= target) {
+                return;
+            }
+
+            List<EvictionCandidate> candidates = new ArrayList<>(clients.size());
+            clients.forEach((clientId, history) ->
+                    candidates.add(new EvictionCandidate(clientId, history, history.lastAccess)));
+            candidates.sort(Comparator.comparingLong(EvictionCandidate::lastAccess));
+
+            for (EvictionCandidate candidate : candidates) {
+                if (bytesRetained.get() <= target) {
+                    break;
+                }
+                ClientHistory history = candidate.history();
+                history.guard.writeLock().lock();
+                try {
+                    if (!clients.remove(candidate.clientId(), history)) {
+                        continue;
+                    }
+                    history.evicted = true;
+                    bytesRetained.addAndGet(-history.bytes.getAndSet(0));
+                } finally {
+                    history.guard.writeLock().unlock();
+                }
+                evictions.increment();
+                log.debug("Evicted notification history for idle client ID: {}", candidate.clientId());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private int slotIndex(long sequence) {
+        return (int) (sequence % perClientCapacity);
+    }
+}
@@ -0,0 +1,508 @@
+package com.example.order_management.grpc;
+
+import com.example.notification.NotificationRecord;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Durable, append-only notification log backed by memory-mapped segment files.
+ * <p>
+ * Each entry is laid out as {@code [int length][long clientId][NotificationRecord bytes]}; the
+ * length is written last, so a torn write reads back as the end of the segment. A per-client index
+ * of entry positions is rebuilt on startup and lets history be parsed straight out of the mapped
+ * segments. Full segments are rolled, and the oldest are dropped in the background once more than
+ * {@code notification.log.max-segments} exist.
+ * <p>
+ * Before dropping anything, the background job compacts the sealed segments: once a client has more
+ * than {@code notification.log.per-client-retention} newer records, its older entries are copied
+ * out, and the survivors are packed into as few segments as they fit. A chatty client therefore
+ * only displaces its own history, and other clients' records are dropped only once the retained
+ * records of all clients no longer fit. Compacted segments replace the originals by atomic rename;
+ * a crash part way through can leave some entries in two segments, never in none.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.log.enabled", havingValue = "true")
+@Slf4j
+public class NotificationLog {
+
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+    private static final byte[] ZEROS = new byte[4096];
+
+    @Value("${notification.log.directory:data/notification-log}")
+    private Path directory;
+
+    @Value("${notification.log.segment-bytes:16777216}")
+    private int segmentBytes;
+
+    @Value("${notification.log.max-segments:8}")
+    private int maxSegments;
+
+    // Newest records kept per client by compaction; 0 disables compaction
+    @Value("${notification.log.per-client-retention:1000}")
+    private int perClientRetention;
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+
+    private record IndexView(long[] positions, int size) {
+    }
+
+    /**
+     * Append-only list of packed entry positions; written under the append lock, read without one
+     */
+    private static final class PositionIndex {
+        private volatile IndexView view = new IndexView(new long[16], 0);
+
+        private void add(long position) {
+            IndexView current = view;
+            long[] positions = current.positions();
+            if (current.size() == positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(16, positions.length * 2));
+            }
+            positions[current.size()] = position;
+            view = new IndexView(positions, current.size() + 1);
+        }
+
+        private void dropBefore(long segmentId) {
+            IndexView current = view;
+            int first = 0;
+            while (first < current.size() && segmentOf(current.positions()[first]) < segmentId) {
+                first++;
+            }
+            if (first > 0) {
+                long[] positions = Arrays.copyOfRange(current.positions(), first, current.positions().length);
+                view = new IndexView(positions, current.size() - first);
+            }
+        }
+    }
+
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Map<Long, PositionIndex> index = new ConcurrentHashMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    // Readers share it; compaction takes it exclusively while it swaps segments and the index
+    private final ReentrantReadWriteLock readLock = new ReentrantReadWriteLock();
+
+    private Segment active;
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.sorted().toList();
+        }
+        // Output of a compaction that never got swapped in; the segments it was built from are intact
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(COMPACTING_SUFFIX)) {
+                Files.delete(file);
+            }
+        }
+        files = files.stream()
+                .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .toList();
+
+        for (Path file : files) {
+            Segment segment = mapSegment(segmentIdOf(file), file);
+            scan(segment, index);
+            segments.put(segment.id, segment);
+        }
+
+        if (segments.isEmpty()) {
+            active = createSegment(0);
+        } else {
+            active = segments.lastEntry().getValue();
+            // A torn entry can leave bytes past the last complete one; clear them so they never read back as an entry
+            zeroTail(active);
+        }
+        log.info("Notification log opened at {} with {} segments and {} clients",
+                directory.toAbsolutePath(), segments.size(), index.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        appendLock.lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.buffer.force();
+                segment.channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("Error closing notification log segments", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Append a record for a client, rolling to a new segment when the active one is full
+     */
+    public void append(long clientId, NotificationRecord record) {
+        int payloadBytes = record.getSerializedSize();
+        int entryBytes = HEADER_BYTES + payloadBytes;
+        if (entryBytes > segmentBytes) {
+            throw new IllegalArgumentException("Notification record larger than a log segment: " + entryBytes);
+        }
+
+        appendLock.lock();
+        try {
+            if (active.writePosition + entryBytes > segmentBytes) {
+                roll();
+            }
+
+            Segment segment = active;
+            int offset = segment.writePosition;
+            segment.buffer.putLong(offset + Integer.BYTES, clientId);
+            CodedOutputStream output = CodedOutputStream.newInstance(
+                    segment.buffer.slice(offset + HEADER_BYTES, payloadBytes));
+            record.writeTo(output);
+            output.flush();
+            // Publish the entry by writing its length last
+            segment.buffer.putInt(offset, payloadBytes);
+            segment.writePosition = offset + entryBytes;
+
+            index.computeIfAbsent(clientId, id -> new PositionIndex()).add(pack(segment.id, offset));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error appending to notification log", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * The most recent records for a client, parsed directly from the mapped segments, oldest first
+     *
+     * @param limit maximum number of records, or 0 for everything retained
+     */
+    public List<NotificationRecord> latest(long clientId, int limit) {
+        readLock.readLock().lock();
+        try {
+            PositionIndex positions = index.get(clientId);
+            if (positions == null) {
+                return List.of();
+            }
+
+            IndexView view = positions.view;
+            int size = view.size();
+            long[] packed = view.positions();
+            int start = limit > 0 ? Math.max(0, size - limit) : 0;
+
+            List<NotificationRecord> records = new ArrayList<>(size - start);
+            for (int i = start; i < size; i++) {
+                Segment segment = segments.get(segmentOf(packed[i]));
+                if (segment != null) {
+                    records.add(parse(segment, offsetOf(packed[i])));
+                }
+            }
+            return records;
+        } finally {
+            readLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replay every retained entry in append order
+     */
+    public void replay(BiConsumer<Long, NotificationRecord> consumer) {
+        readLock.readLock().lock();
+        try {
+            for (Segment segment : segments.values()) {
+                int offset = 0;
+                int length;
+                while ((length = entryLength(segment, offset)) > 0) {
+                    consumer.accept(segment.buffer.getLong(offset + Integer.BYTES), parse(segment, offset));
+                    offset += HEADER_BYTES + length;
+                }
+            }
+        } finally {
+            readLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Force dirty pages to disk, compact the sealed segments and drop the oldest segments beyond
+     * {@code notification.log.max-segments}
+     */
+    @Scheduled(fixedDelayString = "${notification.log.retention-interval-ms:60000}")
+    public void enforceRetention() {
+        try {
+            compact();
+        } catch (IOException e) {
+            log.warn("Error compacting notification log", e);
+        }
+
+        appendLock.lock();
+        try {
+            active.buffer.force();
+
+            while (segments.size() > maxSegments) {
+                Segment oldest = segments.pollFirstEntry().getValue();
+                oldest.channel.close();
+                Files.deleteIfExists(oldest.path);
+                log.info("Dropped notification log segment {}", oldest.path.getFileName());
+            }
+
+            long firstRetained = segments.firstKey();
+            index.values().forEach(positions -> positions.dropBefore(firstRetained));
+            index.values().removeIf(positions -> positions.view.size() == 0);
+        } catch (IOException e) {
+            log.warn("Error enforcing notification log retention", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Copy the entries still within their client's retention out of the sealed segments, packed
+     * densely, and swap the result in place of the originals
+     */
+    private void compact() throws IOException {
+        if (perClientRetention <= 0) {
+            return;
+        }
+
+        // Sealed segments never change again, so they are read and copied without holding the append lock
+        List<Segment> sealed;
+        Map<Long, Long> cutoffs = new HashMap<>();
+        appendLock.lock();
+        try {
+            sealed = new ArrayList<>(segments.headMap(active.id).values());
+            // Entries of a client before its cutoff position are beyond its retention
+            index.forEach((clientId, positions) -> {
+                IndexView view = positions.view;
+                if (view.size() > perClientRetention) {
+                    cutoffs.put(clientId, view.positions()[view.size() - perClientRetention]);
+                }
+            });
+        } finally {
+            appendLock.unlock();
+        }
+        if (sealed.isEmpty() || reclaimableBytes(sealed, cutoffs) < segmentBytes) {
+            // Not worth a rewrite until it frees at least one segment
+            return;
+        }
+
+        List<Segment> compacted = new ArrayList<>();
+        try {
+            Segment output = null;
+            for (Segment input : sealed) {
+                int offset = 0;
+                int length;
+                while ((length = entryLength(input, offset)) > 0) {
+                    int entryBytes = HEADER_BYTES + length;
+                    long clientId = input.buffer.getLong(offset + Integer.BYTES);
+                    Long cutoff = cutoffs.get(clientId);
+                    if (cutoff == null || pack(input.id, offset) >= cutoff) {
+                        if (output == null || output.writePosition + entryBytes > segmentBytes) {
+                            // Outputs take the input ids in order, so entries keep their relative order
+                            output = createCompactingSegment(sealed.get(compacted.size()));
+                            compacted.add(output);
+                        }
+                        output.buffer.put(output.writePosition, input.buffer, offset, entryBytes);
+                        output.writePosition += entryBytes;
+                    }
+                    offset += entryBytes;
+                }
+            }
+            for (Segment segment : compacted) {
+                segment.buffer.force();
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Segment segment : compacted) {
+                segment.channel.close();
+                Files.deleteIfExists(segment.path);
+            }
+            throw e;
+        }
+
+        appendLock.lock();
+        readLock.writeLock().lock();
+        try {
+            swapIn(sealed, compacted);
+        } finally {
+            readLock.writeLock().unlock();
+            appendLock.unlock();
+        }
+        log.info("Compacted {} notification log segments into {}", sealed.size(), compacted.size());
+    }
+
+    private long reclaimableBytes(List<Segment> sealed, Map<Long, Long> cutoffs) {
+        long lastSealed = sealed.get(sealed.size() - 1).id;
+        long reclaimable = 0;
+        for (Map.Entry<Long, Long> cutoff : cutoffs.entrySet()) {
+            IndexView view = index.get(cutoff.getKey()).view;
+            for (int i = 0; i < view.size() && view.positions()[i] < cutoff.getValue(); i++) {
+                long packed = view.positions()[i];
+                Segment segment = segments.get(segmentOf(packed));
+                if (segment != null && segment.id <= lastSealed) {
+                    reclaimable += HEADER_BYTES + entryLength(segment, offsetOf(packed));
+                }
+            }
+        }
+        return reclaimable;
+    }
+
+    /**
+     * Replace the sealed segments by their compacted copies and rebuild the index around them
+     */
+    private void swapIn(List<Segment> sealed, List<Segment> compacted) throws IOException {
+        long lastSealed = sealed.get(sealed.size() - 1).id;
+        for (Segment input : sealed) {
+            input.channel.close();
+        }
+
+        Map<Long, PositionIndex> rebuilt = new HashMap<>();
+        for (int i = 0; i < sealed.size(); i++) {
+            Segment input = sealed.get(i);
+            if (i < compacted.size()) {
+                Files.move(compacted.get(i).path, input.path,
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Segment output = compacted.get(i);
+                Segment swapped = new Segment(output.id, input.path, output.channel, output.buffer);
+                swapped.writePosition = output.writePosition;
+                segments.put(swapped.id, swapped);
+                scan(swapped, rebuilt);
+            } else {
+                segments.remove(input.id);
+                Files.deleteIfExists(input.path);
+            }
+        }
+
+        // Positions in the active segment and any rolled since the copy started are unchanged
+        index.forEach((clientId, positions) -> {
+            IndexView view = positions.view;
+            for (int i = 0; i < view.size(); i++) {
+                if (segmentOf(view.positions()[i]) > lastSealed) {
+                    rebuilt.computeIfAbsent(clientId, id -> new PositionIndex()).add(view.positions()[i]);
+                }
+            }
+        });
+        index.clear();
+        index.putAll(rebuilt);
+    }
+
+    private Segment createCompactingSegment(Segment input) throws IOException {
+        Path path = input.path.resolveSibling(input.path.getFileName() + COMPACTING_SUFFIX);
+        // Start from an empty file, never from the leftovers of an earlier failed compaction
+        Files.deleteIfExists(path);
+        return mapSegment(input.id, path);
+    }
+
+    private void roll() throws IOException {
+        active.buffer.force();
+        active = createSegment(active.id + 1);
+        log.debug("Rolled notification log to segment {}", active.path.getFileName());
+    }
+
+    private Segment createSegment(long id) throws IOException {
+        Segment segment = mapSegment(id, directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX)));
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private Segment mapSegment(long id, Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        return new Segment(id, path, channel, buffer);
+    }
+
+    private void scan(Segment segment, Map<Long, PositionIndex> target) {
+        int offset = 0;
+        int length;
+        while ((length = entryLength(segment, offset)) > 0) {
+            long clientId = segment.buffer.getLong(offset + Integer.BYTES);
+            target.computeIfAbsent(clientId, id -> new PositionIndex()).add(pack(segment.id, offset));
+            offset += HEADER_BYTES + length;
+        }
+        segment.writePosition = offset;
+    }
+
+    /**
+     * Payload length of the entry at the given offset, or 0 where the segment's entries end
+     */
+    private int entryLength(Segment segment, int offset) {
+        if (offset + HEADER_BYTES > segmentBytes) {
+            return 0;
+        }
+        int length = segment.buffer.getInt(offset);
+        // A length running past the segment end is garbage, not an entry
+        return length > 0 && length <= segmentBytes - offset - HEADER_BYTES ? length : 0;
+    }
+
+    private void zeroTail(Segment segment) {
+        for (int offset = segment.writePosition; offset < segmentBytes; offset += ZEROS.length) {
+            segment.buffer.put(offset, ZEROS, 0, Math.min(ZEROS.length, segmentBytes - offset));
+        }
+    }
+
+    private NotificationRecord parse(Segment segment, int offset) {
+        int length = segment.buffer.getInt(offset);
+        ByteBuffer payload = segment.buffer.slice(offset + HEADER_BYTES, length);
+        try {
+            return NotificationRecord.parseFrom(payload);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException("Corrupt notification log entry in " + segment.path + " at " + offset, e);
+        }
+    }
+
+    private static long segmentIdOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long pack(long segmentId, int offset) {
+        return (segmentId << 32) | offset;
+    }
+
+    private static long segmentOf(long packed) {
+        return packed >>> 32;
+    }
+
+    private static int offsetOf(long packed) {
+        return (int) packed;
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.order_management.inventory;
+
+import com.example.order_management.model.OrderItem;
+import com.example.order_management.persistence.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory stock ledger that sits in front of the products table.
+ * <p>
+ * Available stock is held in one {@link AtomicLong} per product, seeded from the products table the
+ * first time a product is touched. Reservations are taken with compare-and-set, so concurrent orders on
+ * the same product never block each other on a row lock. The resulting deltas are written back to
+ * the products table asynchronously, as a single JDBC batch per flush.
+ * <p>
+ * Each product's counter is guarded by a read-write lock: reservations and releases share the read
+ * side, so they only contend on the counter itself, while {@link #evict} takes the write side to
+ * retire the counter once no update to it is half done. Seeding and flushing exclude each other, so
+ * a counter is always seeded from the table plus exactly the deltas the table does not hold yet.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationLedger {
+
+    private static final String FLUSH_SQL = "UPDATE products SET stock_quantity = stock_quantity + ?, version = version + 1 WHERE id = ?";
+    private static final String STOCK_SQL = "SELECT stock_quantity FROM products WHERE id = ?";
+
+    private static final class StockCounter {
+        private final AtomicLong available;
+        private final ReentrantReadWriteLock guard = new ReentrantReadWriteLock();
+        // Set under the write lock once the counter has left the map
+        private boolean retired;
+
+        private StockCounter(long available) {
+            this.available = new AtomicLong(available);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // Authoritative available stock per product id
+    private final Map<Long, StockCounter> available = new ConcurrentHashMap<>();
+
+    // Stock changes not yet written to the products table
+    private final Map<Long, AtomicLong> pendingDeltas = new ConcurrentHashMap<>();
+
+    // Held while seeding a counter and for a whole flush, including its commit
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Reserve stock for every order line, all or nothing.
+     * Reservations are handed back automatically if the surrounding transaction rolls back.
+     */
+    public void reserve(List<OrderItem> items) {
+        List<OrderItem> reserved = new ArrayList<>(items.size());
+        for (OrderItem item : items) {
+            if (!tryReserve(item.getProduct().getId(), item.getQuantity())) {
+                release(reserved);
+                throw new IllegalArgumentException("Insufficient stock for product: " + item.getProduct().getName());
+            }
+            reserved.add(item);
+        }
+
+        TransactionCallbacks.afterRollback(() -> release(reserved));
+    }
+
+    /**
+     * Return the stock held by the given order lines
+     */
+    public void release(List<OrderItem> items) {
+        for (OrderItem item : items) {
+            Long productId = item.getProduct().getId();
+            long quantity = item.getQuantity();
+            while (!update(productId, counter -> {
+                counter.addAndGet(quantity);
+                return true;
+            }, quantity)) {
+                // Only a retired counter refuses an update; retry on its replacement
+            }
+        }
+    }
+
+    /**
+     * Return the stock held by the given order lines once the current transaction commits
+     */
+    public void releaseAfterCommit(List<OrderItem> items) {
+        List<OrderItem> snapshot = List.copyOf(items);
+        TransactionCallbacks.afterCommit(() -> release(snapshot));
+    }
+
+    /**
+     * Currently available stock for a product, or {@code null} if the ledger has not seen it yet
+     */
+    public Long availableStock(Long productId) {
+        StockCounter counter = available.get(productId);
+        return counter != null ? counter.available.get() : null;
+    }
+
+    /**
+     * Forget the in-memory stock of a product after it was changed outside the ledger.
+     * The next reservation re-seeds from the table plus the deltas still waiting to be flushed.
+     */
+    public void evict(Long productId) {
+        StockCounter counter = available.get(productId);
+        if (counter == null) {
+            return;
+        }
+        // Wait out reservations that are between their compare-and-set and recording their delta
+        counter.guard.writeLock().lock();
+        try {
+            counter.retired = true;
+            available.remove(productId, counter);
+        } finally {
+            counter.guard.writeLock().unlock();
+        }
+        log.debug("Evicted ledger stock for product {}", productId);
+    }
+
+    /**
+     * Write pending stock deltas to the products table as one JDBC batch
+     */
+    @Scheduled(fixedDelayString = "${inventory.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Object[]> batch = new ArrayList<>();
+            pendingDeltas.forEach((productId, delta) -> {
+                long value = delta.getAndSet(0);
+                if (value != 0) {
+                    batch.add(new Object[]{value, productId});
+                }
+            });
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                // Commit before releasing the lock, so a counter seeded afterwards reads these rows
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+                log.debug("Flushed stock deltas for {} products", batch.size());
+            } catch (RuntimeException e) {
+                // Put the deltas back so the next flush retries them
+                batch.forEach(row -> pendingDeltas.computeIfAbsent((Long) row[1], id -> new AtomicLong())
+                        .addAndGet((Long) row[0]));
+                throw e;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private boolean tryReserve(Long productId, int quantity) {
+        Boolean reserved;
+        while ((reserved = tryUpdate(productId, counter -> {
+            long current;
+            do {
+                current = counter.get();
+                if (current < quantity) {
+                    return false;
+                }
+            } while (!counter.compareAndSet(current, current - quantity));
+            return true;
+        }, -quantity)) == null) {
+            // Counter was retired by evict; retry on its replacement
+        }
+        return reserved;
+    }
+
+    private boolean update(Long productId, Predicate<AtomicLong> change, long delta) {
+        return tryUpdate(productId, change, delta) != null;
+    }
+
+    /**
+     * Apply a change to a product's counter and record its delta if the change took effect
+     *
+     * @return whether the change took effect, or {@code null} if the counter was retired first
+     */
+    private Boolean tryUpdate(Long productId, Predicate<AtomicLong> change, long delta) {
+        StockCounter counter = counterFor(productId);
+        counter.guard.readLock().lock();
+        try {
+            if (counter.retired) {
+                return null;
+            }
+            boolean applied = change.test(counter.available);
+            if (applied) {
+                pendingDeltas.computeIfAbsent(productId, id -> new AtomicLong()).addAndGet(delta);
+            }
+            return applied;
+        } finally {
+            counter.guard.readLock().unlock();
+        }
+    }
+
+    private StockCounter counterFor(Long productId) {
+        StockCounter counter = available.get(productId);
+        if (counter != null) {
+            return counter;
+        }
+        // Query outside computeIfAbsent: blocking while holding the map's bin lock would pin virtual threads
+        flushLock.lock();
+        try {
+            counter = available.get(productId);
+            if (counter != null) {
+                return counter;
+            }
+            AtomicLong pending = pendingDeltas.get(productId);
+            StockCounter seeded = new StockCounter(loadStock(productId) + (pending != null ? pending.get() : 0));
+            available.put(productId, seeded);
+            return seeded;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private long loadStock(Long productId) {
+        Integer stock = jdbcTemplate.queryForObject(STOCK_SQL, Integer.class, productId);
+        return stock != null ? stock : 0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.order_management.model;
+
+/**
+ * Shared settings for sequence-based id generation.
+ * <p>
+ * Entities draw ids from pooled sequences: one sequence call reserves a block of
+ * {@link #ALLOCATION_SIZE} ids, which Hibernate hands out in memory. Unlike identity columns this
+ * lets inserts be grouped into JDBC batches, since ids are known before the rows are written.
+ */
+public final class IdAllocation {
+
+    /**
+     * Ids reserved per sequence call; also the sequences' increment. Keep it at or above
+     * {@code hibernate.jdbc.batch_size} so a full batch never waits on the sequence.
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.order_management.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money arithmetic on {@code long} minor units (cents).
+ * <p>
+ * Used on the pricing hot path so that line and order totals are computed without allocating;
+ * amounts are converted to and from {@link BigDecimal} only at the entity and API boundary.
+ * All arithmetic is overflow-checked.
+ */
+public final class Money {
+
+    /**
+     * Number of fraction digits in the minor unit, matching the scale of the amount columns
+     */
+    public static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    /**
+     * Convert an amount to minor units, rounding half-even to {@link #SCALE} fraction digits
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Convert minor units back to an amount with {@link #SCALE} fraction digits
+     */
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Total of a line with the given unit price and quantity
+     */
+    public static long lineTotal(long unitPriceMinorUnits, int quantity) {
+        return Math.multiplyExact(unitPriceMinorUnits, quantity);
+    }
+}
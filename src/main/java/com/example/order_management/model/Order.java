@@ -12,14 +12,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_order_date_id", columnList = "order_date, id"),
+        @Index(name = "idx_orders_client_id_order_date", columnList = "client_id, order_date DESC"),
+        @Index(name = "idx_orders_status_order_date", columnList = "status, order_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -39,6 +44,9 @@ public class Order {
 
     private BigDecimal totalAmount;
 
+    @Version
+    private Long version;
+
     private String shippingAddress;
 
     @PrePersist
@@ -50,9 +58,13 @@ public class Order {
     }
 
     public void calculateTotal() {
-        this.totalAmount = items.stream()
-                .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Sum in minor units; indexed loop so no iterator or intermediate BigDecimal is allocated
+        long total = 0;
+        for (int i = 0, size = items.size(); i < size; i++) {
+            OrderItem item = items.get(i);
+            total = Math.addExact(total, Money.lineTotal(item.getPriceMinorUnits(), item.getQuantity()));
+        }
+        this.totalAmount = Money.toBigDecimal(total);
     }
 
     public enum OrderStatus {
@@ -1,10 +1,14 @@
 package com.example.order_management.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 
@@ -12,11 +16,11 @@ import java.math.BigDecimal;
 @Table(name = "order_items")
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,5 +37,46 @@ public class OrderItem {
 
     @Column(nullable = false)
     private BigDecimal price;
-}
 
+    // Minor-unit form of price and the price it was computed from; replacing price (including by Hibernate) invalidates it
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient BigDecimal priceMinorUnitsSource;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient long priceMinorUnits;
+
+    public OrderItem(Long id, Order order, Product product, Integer quantity, BigDecimal price) {
+        this.id = id;
+        this.order = order;
+        this.product = product;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    /**
+     * Set the unit price together with its already known minor-unit form, skipping the conversion
+     */
+    public void setPrice(BigDecimal price, long priceMinorUnits) {
+        this.price = price;
+        this.priceMinorUnitsSource = price;
+        this.priceMinorUnits = priceMinorUnits;
+    }
+
+    /**
+     * Unit price in minor units, converted once per price value
+     */
+    @JsonIgnore
+    public long getPriceMinorUnits() {
+        if (price == null || priceMinorUnitsSource != price) {
+            priceMinorUnits = Money.toMinorUnits(price);
+            priceMinorUnitsSource = price;
+        }
+        return priceMinorUnits;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.order_management.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -12,10 +13,12 @@ import java.math.BigDecimal;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -30,6 +33,9 @@ public class Product {
     private Integer stockQuantity = 0;
 
     private String category;
+
+    @Version
+    private Long version;
 }
 
 
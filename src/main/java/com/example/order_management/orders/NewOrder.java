@@ -0,0 +1,122 @@
+//
+// This file was generated by the Eclipse Implementation of JAXB, v3.0.0 
+// See https://eclipse-ee4j.github.io/jaxb-ri 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2025.11.26 at 11:46:58 PM GMT+01:00 
+//
+
+
+package com.example.order_management.orders;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for newOrder complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="newOrder"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="clientId" type="{http://www.w3.org/2001/XMLSchema}long"/&gt;
+ *         &lt;element name="shippingAddress" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/&gt;
+ *         &lt;element name="items" type="{http://example.com/order-management/orders}newOrderItem" maxOccurs="unbounded"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "newOrder", propOrder = {
+    "clientId",
+    "shippingAddress",
+    "items"
+})
+public class NewOrder {
+
+    protected long clientId;
+    protected String shippingAddress;
+    @XmlElement(required = true)
+    protected List<NewOrderItem> items;
+
+    /**
+     * Gets the value of the clientId property.
+     * 
+     */
+    public long getClientId() {
+        return clientId;
+    }
+
+    /**
+     * Sets the value of the clientId property.
+     * 
+     */
+    public void setClientId(long value) {
+        this.clientId = value;
+    }
+
+    /**
+     * Gets the value of the shippingAddress property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getShippingAddress() {
+        return shippingAddress;
+    }
+
+    /**
+     * Sets the value of the shippingAddress property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setShippingAddress(String value) {
+        this.shippingAddress = value;
+    }
+
+    /**
+     * Gets the value of the items property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the Jakarta XML Binding object.
+     * This is why there is not a <CODE>set</CODE> method for the items property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getItems().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link NewOrderItem }
+     * 
+     * 
+     */
+    public List<NewOrderItem> getItems() {
+        if (items == null) {
+            items = new ArrayList<NewOrderItem>();
+        }
+        return this.items;
+    }
+
+}
@@ -0,0 +1,78 @@
+//
+// This file was generated by the Eclipse Implementation of JAXB, v3.0.0 
+// See https://eclipse-ee4j.github.io/jaxb-ri 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2025.11.26 at 11:46:58 PM GMT+01:00 
+//
+
+
+package com.example.order_management.orders;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for newOrderItem complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="newOrderItem"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="productId" type="{http://www.w3.org/2001/XMLSchema}long"/&gt;
+ *         &lt;element name="quantity" type="{http://www.w3.org/2001/XMLSchema}int"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "newOrderItem", propOrder = {
+    "productId",
+    "quantity"
+})
+public class NewOrderItem {
+
+    protected long productId;
+    protected int quantity;
+
+    /**
+     * Gets the value of the productId property.
+     * 
+     */
+    public long getProductId() {
+        return productId;
+    }
+
+    /**
+     * Sets the value of the productId property.
+     * 
+     */
+    public void setProductId(long value) {
+        this.productId = value;
+    }
+
+    /**
+     * Gets the value of the quantity property.
+     * 
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Sets the value of the quantity property.
+     * 
+     */
+    public void setQuantity(int value) {
+        this.quantity = value;
+    }
+
+}
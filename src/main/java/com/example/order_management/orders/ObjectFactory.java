@@ -108,4 +108,44 @@ public class ObjectFactory {
         return new UpdateOrderStatusResponse();
     }
 
+    /**
+     * Create an instance of {@link CreateOrdersRequest }
+     * 
+     */
+    public CreateOrdersRequest createCreateOrdersRequest() {
+        return new CreateOrdersRequest();
+    }
+
+    /**
+     * Create an instance of {@link NewOrder }
+     * 
+     */
+    public NewOrder createNewOrder() {
+        return new NewOrder();
+    }
+
+    /**
+     * Create an instance of {@link CreateOrdersResponse }
+     * 
+     */
+    public CreateOrdersResponse createCreateOrdersResponse() {
+        return new CreateOrdersResponse();
+    }
+
+    /**
+     * Create an instance of {@link CreateOrderResult }
+     * 
+     */
+    public CreateOrderResult createCreateOrderResult() {
+        return new CreateOrderResult();
+    }
+
+    /**
+     * Create an instance of {@link NewOrderItem }
+     * 
+     */
+    public NewOrderItem createNewOrderItem() {
+        return new NewOrderItem();
+    }
+
 }
@@ -0,0 +1,86 @@
+package com.example.order_management.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work in its own transaction and re-runs it when it loses an optimistic-locking
+ * race, up to a bounded number of attempts with exponential backoff and full jitter.
+ * <p>
+ * Each attempt starts a fresh transaction, so it re-reads the current row and version. When called
+ * inside an existing transaction the work runs once: a retry could not see fresh state there, so
+ * conflicts are left to the outer transaction's owner.
+ * <p>
+ * Publishes {@code orders.optimistic.conflicts}, {@code orders.optimistic.retries} and
+ * {@code orders.optimistic.exhausted}, tagged by operation.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticRetryExecutor {
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${orders.optimistic-retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${orders.optimistic-retry.base-backoff-ms:5}")
+    private long baseBackoffMs;
+
+    @Value("${orders.optimistic-retry.max-backoff-ms:200}")
+    private long maxBackoffMs;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                meterRegistry.counter("orders.optimistic.conflicts", "operation", operation).increment();
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("orders.optimistic.exhausted", "operation", operation).increment();
+                    log.warn("{} still conflicting after {} attempts", operation, attempt);
+                    throw e;
+                }
+
+                meterRegistry.counter("orders.optimistic.retries", "operation", operation).increment();
+                log.debug("{} hit an optimistic lock conflict, retrying (attempt {})", operation, attempt + 1);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        // Full jitter: sleep a random time up to the exponential bound, so contenders spread out
+        long bound = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        long sleepMs = ThreadLocalRandom.current().nextLong(bound + 1);
+        try {
+            Thread.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.order_management.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that counts the SQL statements prepared on the current thread.
+ * <p>
+ * Registered through {@code hibernate.session_factory.statement_inspector}; callers mark the start
+ * of a unit of work with {@link #reset()} and read the running total with {@link #count()}.
+ * Batched statements are prepared once per batch, so the count reflects JDBC round trips.
+ * <p>
+ * The count is per thread, not per request: statements a unit of work hands off to another thread
+ * (an async executor, a reactive scheduler, a DataLoader dispatched elsewhere) are not included.
+ * Counts are only accurate for work that stays on the thread that called {@link #reset()}.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNTER = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTER.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Reset the counter for the current thread
+     */
+    public static void reset() {
+        COUNTER.get()[0] = 0;
+    }
+
+    /**
+     * Number of statements prepared on the current thread since the last reset
+     */
+    public static long count() {
+        return COUNTER.get()[0];
+    }
+}
@@ -1,12 +1,30 @@
 package com.example.order_management.repository;
 
 import com.example.order_management.model.Order;
+import com.example.order_management.service.OrderStatusSnapshot;
+import com.example.order_management.service.OrderSummary;
+import com.example.order_management.service.OrderTotal;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 @RepositoryRestResource(path = "orders")
@@ -14,7 +32,96 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByClientId(Long clientId);
     List<Order> findByStatus(Order.OrderStatus status);
 
+    @RestResource(exported = false)
+    List<Order> findByClientIdIn(Collection<Long> clientIds);
+
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "client")
+    Optional<Order> findWithClientById(Long id);
+
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = {"client", "items", "items.product"})
+    Optional<Order> findWithDetailsById(Long id);
+
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "client")
+    List<Order> findWithClientByClientId(Long clientId);
+
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = {"client", "items", "items.product"})
+    List<Order> findWithDetailsByClientId(Long clientId);
+
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "client")
+    List<Order> findWithClientByStatus(Order.OrderStatus status);
+
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = {"client", "items", "items.product"})
+    List<Order> findWithDetailsByStatus(Order.OrderStatus status);
+
     @Query("SELECT o FROM Order o JOIN FETCH o.items WHERE o.id = :id")
     Order findByIdWithItems(Long id);
+
+    @RestResource(exported = false)
+    @Query("SELECT o FROM Order o ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findFirstPage(Limit limit);
+
+    @RestResource(exported = false)
+    @Query("SELECT o FROM Order o WHERE o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :id) " +
+            "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findPageAfter(LocalDateTime orderDate, Long id, Limit limit);
+
+    @RestResource(exported = false)
+    @Query("SELECT o FROM Order o WHERE o.client.id = :clientId ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findFirstPageByClientId(Long clientId, Limit limit);
+
+    @RestResource(exported = false)
+    @Query("SELECT o FROM Order o WHERE o.client.id = :clientId " +
+            "AND (o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :id)) " +
+            "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findPageAfterByClientId(Long clientId, LocalDateTime orderDate, Long id, Limit limit);
+
+    @RestResource(exported = false)
+    @Query("SELECT new com.example.order_management.service.OrderSummary(" +
+            "o.id, c.id, c.name, o.orderDate, o.status, o.totalAmount, o.shippingAddress) " +
+            "FROM Order o JOIN o.client c WHERE c.id = :clientId ORDER BY o.orderDate DESC")
+    List<OrderSummary> findSummariesByClientId(Long clientId);
+
+    @RestResource(exported = false)
+    @Query("SELECT new com.example.order_management.service.OrderSummary(" +
+            "o.id, c.id, c.name, o.orderDate, o.status, o.totalAmount, o.shippingAddress) " +
+            "FROM Order o JOIN o.client c WHERE o.status = :status ORDER BY o.orderDate")
+    List<OrderSummary> findSummariesByStatus(Order.OrderStatus status);
+
+    @RestResource(exported = false)
+    @Transactional(readOnly = true)
+    @Query("SELECT o.totalAmount FROM Order o WHERE o.id = :id")
+    Optional<BigDecimal> findTotalAmountById(Long id);
+
+    @RestResource(exported = false)
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.order_management.service.OrderTotal(o.id, o.totalAmount) " +
+            "FROM Order o WHERE o.id IN :ids")
+    List<OrderTotal> findTotalsByIdIn(Collection<Long> ids);
+
+    // Locks the rows, so the statuses read stay current until the transaction ends
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.example.order_management.service.OrderStatusSnapshot(o.id, o.client.id, o.status) " +
+            "FROM Order o WHERE o.id IN :ids")
+    List<OrderStatusSnapshot> findStatusesForUpdateByIdIn(Collection<Long> ids);
+
+    @RestResource(exported = false)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.version = o.version + 1 " +
+            "WHERE o.id IN :ids AND o.status IN :allowedSources AND o.status <> :status")
+    int updateStatusWhereStatusIn(Collection<Long> ids, Order.OrderStatus status,
+                                  Collection<Order.OrderStatus> allowedSources);
+
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT o FROM Order o JOIN FETCH o.client LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.product " +
+            "ORDER BY o.id")
+    Stream<Order> streamAllWithDetails();
 }
 
@@ -0,0 +1,26 @@
+package com.example.order_management.service;
+
+import com.example.order_management.model.Order;
+
+import java.math.BigDecimal;
+
+/**
+ * Outcome of one order in a bulk create: either the created order's id and total, or the reason
+ * it was rejected
+ *
+ * @param index position of the order in the submitted batch
+ */
+public record OrderCreationResult(int index, Long orderId, BigDecimal totalAmount, String error) {
+
+    public static OrderCreationResult created(int index, Order order) {
+        return new OrderCreationResult(index, order.getId(), order.getTotalAmount(), null);
+    }
+
+    public static OrderCreationResult failed(int index, String error) {
+        return new OrderCreationResult(index, null, null, error);
+    }
+
+    public boolean success() {
+        return error == null;
+    }
+}
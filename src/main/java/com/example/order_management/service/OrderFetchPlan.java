@@ -0,0 +1,15 @@
+package com.example.order_management.service;
+
+/**
+ * How much of the order graph a read loads up front.
+ * Callers pick the smallest plan that covers what they serialize, so a read costs one query
+ * regardless of how many orders it returns.
+ */
+public enum OrderFetchPlan {
+    /** The order row only; associations stay lazy (e.g. GraphQL, where DataLoaders batch them) */
+    ORDER_ONLY,
+    /** The order with its client (e.g. SOAP, which only needs the client name) */
+    WITH_CLIENT,
+    /** The order with its client, items and their products (e.g. REST JSON) */
+    WITH_DETAILS
+}
@@ -0,0 +1,12 @@
+package com.example.order_management.service;
+
+import com.example.order_management.model.Order;
+
+import java.util.List;
+
+/**
+ * One keyset-paginated slice of orders, newest first.
+ * {@code nextCursor} is {@code null} when there are no further orders.
+ */
+public record OrderPage(List<Order> orders, String nextCursor, boolean hasNext) {
+}
@@ -4,6 +4,7 @@ import com.example.order_management.model.Order;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderService {
 
@@ -12,31 +13,87 @@ public interface OrderService {
      */
     Order createOrder(Order order);
 
+    /**
+     * Create many orders, reporting success or failure per order. Orders are committed in chunks of
+     * 50: a database error fails every order of the chunk it hit, but none of the other chunks.
+     */
+    List<OrderCreationResult> createOrders(List<Order> orders);
+
     /**
      * Get orders by client ID
      */
     List<Order> getOrdersByClientId(Long clientId);
 
+    /**
+     * Get orders by client ID, loading the given part of the order graph
+     */
+    List<Order> getOrdersByClientId(Long clientId, OrderFetchPlan fetchPlan);
+
+    /**
+     * Get a client's orders as flat summaries, newest first
+     */
+    List<OrderSummary> getOrderSummariesByClientId(Long clientId);
+
+    /**
+     * Get orders with the given status as flat summaries, oldest first
+     */
+    List<OrderSummary> getOrderSummariesByStatus(Order.OrderStatus status);
+
     /**
      * Get order by ID
      */
     Order getOrderById(Long orderId);
 
+    /**
+     * Get order by ID, loading the given part of the order graph
+     */
+    Order getOrderById(Long orderId, OrderFetchPlan fetchPlan);
+
+    /**
+     * Get orders by status, loading the given part of the order graph
+     */
+    List<Order> getOrdersByStatus(Order.OrderStatus status, OrderFetchPlan fetchPlan);
+
     /**
      * Calculate total amount for an order
      */
     BigDecimal calculateOrderTotal(Long orderId);
 
+    /**
+     * Get the totals of many orders at once, in request order; unknown orders are left out
+     */
+    List<OrderTotal> getOrderTotals(List<Long> orderIds);
+
     /**
      * Update order status
      */
     Order updateOrderStatus(Long orderId, Order.OrderStatus newStatus);
 
+    /**
+     * Move many orders to a new status in one statement, skipping orders whose status does not allow it
+     */
+    OrderStatusBulkUpdate updateOrderStatuses(List<Long> orderIds, Order.OrderStatus newStatus);
+
     /**
      * Get all orders
      */
     List<Order> getAllOrders();
 
+    /**
+     * Get one page of orders, newest first, continuing after the given cursor
+     */
+    OrderPage getOrdersPage(String afterCursor, int size);
+
+    /**
+     * Get one page of a client's orders, newest first, continuing after the given cursor
+     */
+    OrderPage getOrdersPageByClientId(Long clientId, String afterCursor, int size);
+
+    /**
+     * Stream every order, with client and items, to the consumer in constant memory
+     */
+    void exportOrders(Consumer<Order> consumer);
+
     /**
      * Cancel an order
      */
@@ -0,0 +1,15 @@
+package com.example.order_management.service;
+
+import com.example.order_management.model.Order;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk status change
+ *
+ * @param rejectedOrderIds requested orders that exist but whose current status does not allow the change
+ * @param missingOrderIds  requested orders that do not exist
+ */
+public record OrderStatusBulkUpdate(Order.OrderStatus status, int requested, int updated, List<Long> rejectedOrderIds,
+                                    List<Long> missingOrderIds) {
+}
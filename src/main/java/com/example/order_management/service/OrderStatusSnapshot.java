@@ -0,0 +1,9 @@
+package com.example.order_management.service;
+
+import com.example.order_management.model.Order;
+
+/**
+ * Current status of a single order and the client it belongs to
+ */
+public record OrderStatusSnapshot(Long orderId, Long clientId, Order.OrderStatus status) {
+}
@@ -0,0 +1,102 @@
+package com.example.order_management.service;
+
+import com.example.order_management.model.Order.OrderStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Table of allowed order status transitions.
+ * <p>
+ * The table is compiled once into one bitmask of allowed targets per source status, so checking a
+ * transition is a single array read and bit test with no allocation. It also precomputes, for
+ * every target, the statuses it may be reached from, which guard set-based bulk updates.
+ * <p>
+ * Lifecycles are configured under {@code orders.lifecycle.transitions} as a map from each status
+ * to the statuses it may move to. Without configuration any order that is not DELIVERED or
+ * CANCELLED may move to any status, and DELIVERED and CANCELLED are terminal.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatusTransitions {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final Set<OrderStatus> DEFAULT_TERMINAL = EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    private final Environment environment;
+
+    // Bit t of allowedTargets[s] is set when status s may move to status t
+    private final long[] allowedTargets = new long[STATUSES.length];
+    private final Map<OrderStatus, Set<OrderStatus>> sources = new EnumMap<>(OrderStatus.class);
+
+    @PostConstruct
+    public void compile() {
+        Bindable<Map<OrderStatus, Set<OrderStatus>>> transitionsType = Bindable.of(ResolvableType.forClassWithGenerics(
+                Map.class, ResolvableType.forClass(OrderStatus.class),
+                ResolvableType.forClassWithGenerics(Set.class, OrderStatus.class)));
+        Map<OrderStatus, Set<OrderStatus>> configured = Binder.get(environment)
+                .bind("orders.lifecycle.transitions", transitionsType)
+                .orElse(null);
+
+        for (OrderStatus from : STATUSES) {
+            for (OrderStatus to : targetsOf(from, configured)) {
+                allowedTargets[from.ordinal()] |= 1L << to.ordinal();
+            }
+        }
+
+        for (OrderStatus to : STATUSES) {
+            EnumSet<OrderStatus> from = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus candidate : STATUSES) {
+                if (isAllowed(candidate, to)) {
+                    from.add(candidate);
+                }
+            }
+            sources.put(to, Collections.unmodifiableSet(from));
+        }
+
+        log.info("Order lifecycle: {}", configured != null ? configured : "default (DELIVERED and CANCELLED are terminal)");
+    }
+
+    public boolean isAllowed(OrderStatus from, OrderStatus to) {
+        return (allowedTargets[from.ordinal()] & (1L << to.ordinal())) != 0;
+    }
+
+    /**
+     * @throws IllegalStateException if the transition is not allowed
+     */
+    public void validate(OrderStatus from, OrderStatus to) {
+        if (isAllowed(from, to)) {
+            return;
+        }
+        if (allowedTargets[from.ordinal()] == 0) {
+            throw new IllegalStateException("Cannot update status of a " + from.name().toLowerCase() + " order");
+        }
+        throw new IllegalStateException("Cannot change order status from " + from + " to " + to);
+    }
+
+    /**
+     * Statuses an order may be in to move to the given status
+     */
+    public Set<OrderStatus> sourcesOf(OrderStatus to) {
+        return sources.get(to);
+    }
+
+    private static Set<OrderStatus> targetsOf(OrderStatus from, Map<OrderStatus, Set<OrderStatus>> configured) {
+        if (configured != null) {
+            return configured.getOrDefault(from, Set.of());
+        }
+        return DEFAULT_TERMINAL.contains(from) ? Set.of() : EnumSet.allOf(OrderStatus.class);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.order_management.service;
+
+import com.example.order_management.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat, read-only view of an order for listings, loaded without hydrating the entity graph
+ */
+public record OrderSummary(
+        Long id,
+        Long clientId,
+        String clientName,
+        LocalDateTime orderDate,
+        Order.OrderStatus status,
+        BigDecimal totalAmount,
+        String shippingAddress) {
+}
@@ -0,0 +1,9 @@
+package com.example.order_management.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Total amount of a single order
+ */
+public record OrderTotal(Long orderId, BigDecimal totalAmount) {
+}
@@ -1,21 +1,60 @@
 package com.example.order_management.service.impl;
 
-import com.example.notification.OrderNotificationResponse;
+import com.example.order_management.cache.CatalogCache;
+import com.example.order_management.cache.ClientSnapshot;
+import com.example.order_management.cache.OrderResponseCache;
+import com.example.order_management.cache.OrderTotalsCache;
+import com.example.order_management.cache.ProductSnapshot;
+import com.example.order_management.event.OrderEventBus;
+import com.example.order_management.event.OrderStatusEvent;
+import com.example.order_management.grpc.NotificationDispatcher;
 import com.example.order_management.grpc.NotificationGrpcClient;
+import com.example.order_management.inventory.StockReservationLedger;
+import com.example.order_management.model.Client;
 import com.example.order_management.model.Order;
 import com.example.order_management.model.OrderItem;
+import com.example.order_management.persistence.OptimisticRetryExecutor;
+import com.example.order_management.persistence.SqlStatementCounter;
 import com.example.order_management.repository.ClientRepository;
 import com.example.order_management.repository.OrderRepository;
 import com.example.order_management.repository.ProductRepository;
+import com.example.order_management.service.OrderCreationResult;
+import com.example.order_management.service.OrderCursor;
+import com.example.order_management.service.OrderFetchPlan;
+import com.example.order_management.service.OrderPage;
 import com.example.order_management.service.OrderService;
+import com.example.order_management.service.OrderStatusBulkUpdate;
+import com.example.order_management.service.OrderStatusSnapshot;
+import com.example.order_management.service.OrderStatusTransitions;
+import com.example.order_management.service.OrderSummary;
+import com.example.order_management.service.OrderTotal;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,10 +62,34 @@ import java.util.List;
 @Transactional
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_TOTALS_BATCH = 10_000;
+    private static final int MAX_BULK_ORDERS = 5_000;
+    private static final int MAX_BULK_STATUS_UPDATES = 10_000;
+    // Matches hibernate.jdbc.batch_size so each flush sends full JDBC batches
+    private static final int BULK_FLUSH_SIZE = 50;
+
     private final OrderRepository orderRepository;
     private final ClientRepository clientRepository;
     private final ProductRepository productRepository;
-    private final NotificationGrpcClient notificationClient;
+    private final NotificationDispatcher notificationDispatcher;
+    private final StockReservationLedger stockLedger;
+    private final CatalogCache catalogCache;
+    private final OrderTotalsCache orderTotalsCache;
+    private final OrderResponseCache orderResponseCache;
+    private final OrderEventBus orderEventBus;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final OrderStatusTransitions statusTransitions;
+    private final MeterRegistry meterRegistry;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    public void init() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+    }
 
     @Override
     public Order createOrder(Order order) {
@@ -37,8 +100,118 @@ public class OrderServiceImpl implements OrderService {
             throw new IllegalArgumentException("Client must be specified");
         }
 
-        clientRepository.findById(order.getClient().getId())
+        // Count from here rather than resetting: the GraphQL request may already be counting on this thread
+        long statementsAtStart = SqlStatementCounter.count();
+
+        // Client and product details come from the catalog cache; the order only needs references
+        ClientSnapshot client = catalogCache.getClient(order.getClient().getId())
                 .orElseThrow(() -> new IllegalArgumentException("Client not found"));
+        Map<Long, ProductSnapshot> products = catalogCache.getProducts(productIdsOf(List.of(order)));
+
+        prepareOrder(order, client, products);
+
+        Order savedOrder = orderRepository.save(order);
+        orderRepository.flush();
+
+        long statementCount = SqlStatementCounter.count() - statementsAtStart;
+        meterRegistry.summary("orders.create.sql.statements").record(statementCount);
+        log.info("Order created successfully with ID: {} ({} items, {} SQL statements)",
+                savedOrder.getId(), savedOrder.getItems().size(), statementCount);
+
+        afterCreate(savedOrder, client);
+        return savedOrder;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<OrderCreationResult> createOrders(List<Order> orders) {
+        if (orders.size() > MAX_BULK_ORDERS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_ORDERS + " orders can be created at once");
+        }
+        log.info("Creating batch of {} orders", orders.size());
+
+        long statementsAtStart = SqlStatementCounter.count();
+
+        // Resolve every client and product referenced by the batch up front, one query each at most
+        Set<Long> clientIds = orders.stream()
+                .map(Order::getClient)
+                .filter(client -> client != null && client.getId() != null)
+                .map(Client::getId)
+                .collect(Collectors.toSet());
+        Map<Long, ClientSnapshot> clients = catalogCache.getClients(clientIds);
+        Map<Long, ProductSnapshot> products = catalogCache.getProducts(productIdsOf(orders));
+
+        // Each chunk commits on its own, so a database error only fails the orders in the chunk it hit
+        OrderCreationResult[] results = new OrderCreationResult[orders.size()];
+        for (int from = 0; from < orders.size(); from += BULK_FLUSH_SIZE) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(from + BULK_FLUSH_SIZE, orders.size());
+            try {
+                chunkTransaction.executeWithoutResult(
+                        status -> createChunk(orders, chunkFrom, chunkTo, clients, products, results));
+            } catch (DataAccessException | TransactionException e) {
+                // The rollback has handed back the chunk's stock and dropped its after-commit work
+                log.warn("Could not save orders {} to {} of the batch", chunkFrom, chunkTo - 1, e);
+                for (int i = chunkFrom; i < chunkTo; i++) {
+                    if (results[i] == null || results[i].success()) {
+                        results[i] = OrderCreationResult.failed(i, "Order could not be saved");
+                    }
+                }
+            }
+        }
+        long created = Arrays.stream(results).filter(OrderCreationResult::success).count();
+
+        long statementCount = SqlStatementCounter.count() - statementsAtStart;
+        meterRegistry.summary("orders.create.batch.sql.statements").record(statementCount);
+        log.info("Created {} of {} orders ({} SQL statements)", created, orders.size(), statementCount);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Validate, price and reserve each order of a chunk on its own, so one bad order does not sink
+     * the rest, then insert the valid ones. Runs inside the chunk's transaction.
+     */
+    private void createChunk(List<Order> orders, int from, int to, Map<Long, ClientSnapshot> clients,
+                             Map<Long, ProductSnapshot> products, OrderCreationResult[] results) {
+        List<Order> accepted = new ArrayList<>(to - from);
+        List<Integer> acceptedIndexes = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Order order = orders.get(i);
+            try {
+                if (order.getClient() == null || order.getClient().getId() == null) {
+                    throw new IllegalArgumentException("Client must be specified");
+                }
+                ClientSnapshot client = clients.get(order.getClient().getId());
+                if (client == null) {
+                    throw new IllegalArgumentException("Client not found");
+                }
+                prepareOrder(order, client, products);
+                accepted.add(order);
+                acceptedIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = OrderCreationResult.failed(i, e.getMessage());
+            }
+        }
+
+        orderRepository.saveAll(accepted);
+        orderRepository.flush();
+        // With open-in-view the persistence context outlives the chunk; keep it from growing with the batch
+        entityManager.clear();
+
+        for (int i = 0; i < accepted.size(); i++) {
+            Order order = accepted.get(i);
+            int index = acceptedIndexes.get(i);
+            results[index] = OrderCreationResult.created(index, order);
+            afterCreate(order, clients.get(order.getClient().getId()));
+        }
+    }
+
+    /**
+     * Wire an incoming order to its client and products, price it, reserve its stock and compute
+     * its total
+     */
+    private void prepareOrder(Order order, ClientSnapshot client, Map<Long, ProductSnapshot> products) {
+        order.setClient(clientRepository.getReferenceById(client.id()));
 
         // Set order date and initial status
         order.setOrderDate(LocalDateTime.now());
@@ -46,98 +219,233 @@ public class OrderServiceImpl implements OrderService {
             order.setStatus(Order.OrderStatus.PENDING);
         }
 
-        // Validate and process order items
+        // Validate products exist and set current price
         for (OrderItem item : order.getItems()) {
             item.setOrder(order);
 
-            // Validate product exists and set current price
-            var product = productRepository.findById(item.getProduct().getId())
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + item.getProduct().getId()));
-
-            item.setProduct(product);
-            item.setPrice(product.getPrice());
-
-            // Validate stock
-            if (product.getStockQuantity() < item.getQuantity()) {
-                throw new IllegalArgumentException("Insufficient stock for product: " + product.getName());
+            if (item.getProduct() == null || item.getProduct().getId() == null) {
+                throw new IllegalArgumentException("Product must be specified");
+            }
+            Long productId = item.getProduct().getId();
+            ProductSnapshot product = products.get(productId);
+            if (product == null) {
+                throw new IllegalArgumentException("Product not found: " + productId);
+            }
+            // A non-positive quantity would hand stock back to the ledger instead of reserving it
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive for product: " + productId);
             }
 
-            // Update stock
-            product.setStockQuantity(product.getStockQuantity() - item.getQuantity());
-            productRepository.save(product);
+            item.setProduct(productRepository.getReferenceById(productId));
+            item.setPrice(product.price(), product.priceMinorUnits());
         }
 
-        // Calculate total
-        order.calculateTotal();
+        // Calculate total before reserving, so an order that cannot be priced holds no stock
+        try {
+            order.calculateTotal();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Order total exceeds the supported range");
+        }
 
-        Order savedOrder = orderRepository.save(order);
-        log.info("Order created successfully with ID: {}", savedOrder.getId());
+        // Reserve stock against the in-memory ledger; the products table is updated asynchronously
+        stockLedger.reserve(order.getItems());
+    }
 
-        // Send notification via gRPC
-        try {
-            OrderNotificationResponse notificationResponse = notificationClient.sendOrderNotification(
-                    savedOrder.getId(),
-                    savedOrder.getClient().getId(),
-                    savedOrder.getClient().getName(),
-                    savedOrder.getClient().getEmail(),
-                    savedOrder.getTotalAmount().doubleValue(),
-                    savedOrder.getStatus().name(),
-                    String.format("Order #%d has been created with total amount $%.2f",
-                            savedOrder.getId(), savedOrder.getTotalAmount())
-            );
-
-            if (notificationResponse.getSuccess()) {
-                log.info("Notification sent successfully: {}", notificationResponse.getMessage());
-            } else {
-                log.warn("Notification failed: {}", notificationResponse.getMessage());
+    private void afterCreate(Order savedOrder, ClientSnapshot client) {
+        orderTotalsCache.putAfterCommit(savedOrder.getId(), savedOrder.getTotalAmount());
+        orderEventBus.publishAfterCommit(new OrderStatusEvent(
+                savedOrder.getId(), client.id(), null, savedOrder.getStatus(), savedOrder.getOrderDate()));
+
+        // Queue the gRPC notification; it is sent in the background once the transaction commits
+        notificationDispatcher.publishAfterCommit(NotificationGrpcClient.buildRequest(
+                savedOrder.getId(),
+                client.id(),
+                client.name(),
+                client.email(),
+                savedOrder.getTotalAmount().doubleValue(),
+                savedOrder.getStatus().name(),
+                String.format("Order #%d has been created with total amount $%.2f",
+                        savedOrder.getId(), savedOrder.getTotalAmount())
+        ));
+    }
+
+    private static Set<Long> productIdsOf(List<Order> orders) {
+        Set<Long> productIds = new HashSet<>();
+        for (Order order : orders) {
+            for (OrderItem item : order.getItems()) {
+                if (item.getProduct() != null && item.getProduct().getId() != null) {
+                    productIds.add(item.getProduct().getId());
+                }
             }
-        } catch (Exception e) {
-            log.error("Error sending notification via gRPC", e);
-            // Don't fail the order creation if notification fails
         }
-
-        return savedOrder;
+        return productIds;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Order> getOrdersByClientId(Long clientId) {
-        log.info("Fetching orders for client ID: {}", clientId);
-        return orderRepository.findByClientId(clientId);
+        return getOrdersByClientId(clientId, OrderFetchPlan.ORDER_ONLY);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> getOrdersByClientId(Long clientId, OrderFetchPlan fetchPlan) {
+        log.info("Fetching orders for client ID: {} ({})", clientId, fetchPlan);
+        return switch (fetchPlan) {
+            case ORDER_ONLY -> orderRepository.findByClientId(clientId);
+            case WITH_CLIENT -> orderRepository.findWithClientByClientId(clientId);
+            case WITH_DETAILS -> orderRepository.findWithDetailsByClientId(clientId);
+        };
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderSummary> getOrderSummariesByClientId(Long clientId) {
+        log.info("Fetching order summaries for client ID: {}", clientId);
+        return orderRepository.findSummariesByClientId(clientId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderSummary> getOrderSummariesByStatus(Order.OrderStatus status) {
+        log.info("Fetching order summaries with status: {}", status);
+        return orderRepository.findSummariesByStatus(status);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Order getOrderById(Long orderId) {
-        log.info("Fetching order with ID: {}", orderId);
-        return orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        return getOrderById(orderId, OrderFetchPlan.ORDER_ONLY);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Order getOrderById(Long orderId, OrderFetchPlan fetchPlan) {
+        log.info("Fetching order with ID: {} ({})", orderId, fetchPlan);
+        Optional<Order> order = switch (fetchPlan) {
+            case ORDER_ONLY -> orderRepository.findById(orderId);
+            case WITH_CLIENT -> orderRepository.findWithClientById(orderId);
+            case WITH_DETAILS -> orderRepository.findWithDetailsById(orderId);
+        };
+        return order.orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
     }
 
     @Override
     @Transactional(readOnly = true)
+    public List<Order> getOrdersByStatus(Order.OrderStatus status, OrderFetchPlan fetchPlan) {
+        log.info("Fetching orders with status: {} ({})", status, fetchPlan);
+        return switch (fetchPlan) {
+            case ORDER_ONLY -> orderRepository.findByStatus(status);
+            case WITH_CLIENT -> orderRepository.findWithClientByStatus(status);
+            case WITH_DETAILS -> orderRepository.findWithDetailsByStatus(status);
+        };
+    }
+
+    @Override
+    // Cache hits must not borrow a connection; only the loaders open a transaction
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BigDecimal calculateOrderTotal(Long orderId) {
-        Order order = getOrderById(orderId);
-        return order.getTotalAmount();
+        BigDecimal total = orderTotalsCache.get(orderId);
+        if (total == null) {
+            throw new IllegalArgumentException("Order not found: " + orderId);
+        }
+        return total;
+    }
+
+    @Override
+    // Cache hits must not borrow a connection; only the loaders open a transaction
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<OrderTotal> getOrderTotals(List<Long> orderIds) {
+        if (orderIds.size() > MAX_TOTALS_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_TOTALS_BATCH + " order totals can be requested at once");
+        }
+        log.info("Fetching totals for {} orders", orderIds.size());
+
+        Set<Long> distinctIds = new LinkedHashSet<>(orderIds);
+        Map<Long, BigDecimal> totals = orderTotalsCache.getAll(distinctIds);
+
+        List<OrderTotal> result = new ArrayList<>(totals.size());
+        for (Long orderId : distinctIds) {
+            BigDecimal total = totals.get(orderId);
+            if (total != null) {
+                result.add(new OrderTotal(orderId, total));
+            }
+        }
+        return result;
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Order updateOrderStatus(Long orderId, Order.OrderStatus newStatus) {
         log.info("Updating order {} status to {}", orderId, newStatus);
 
-        Order order = getOrderById(orderId);
+        // Each attempt re-reads the order, so a concurrent change is validated against, not overwritten
+        return retryExecutor.execute("updateOrderStatus", () -> {
+            Order order = getOrderById(orderId, OrderFetchPlan.WITH_CLIENT);
+
+            // Validate status transition
+            statusTransitions.validate(order.getStatus(), newStatus);
+
+            publishStatusChange(order, order.getStatus(), newStatus);
+            order.setStatus(newStatus);
+            orderResponseCache.invalidate(orderId);
+            return orderRepository.saveAndFlush(order);
+        });
+    }
+
+    @Override
+    public OrderStatusBulkUpdate updateOrderStatuses(List<Long> orderIds, Order.OrderStatus newStatus) {
+        if (newStatus == Order.OrderStatus.CANCELLED) {
+            // Cancelling releases each order's stock, which a set-based update cannot do
+            throw new IllegalArgumentException("Orders must be cancelled one at a time");
+        }
+        if (orderIds.size() > MAX_BULK_STATUS_UPDATES) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_STATUS_UPDATES + " orders can be updated at once");
+        }
+        log.info("Updating {} orders to status {}", orderIds.size(), newStatus);
+
+        Set<Long> distinctIds = new LinkedHashSet<>(orderIds);
+        if (distinctIds.isEmpty()) {
+            return new OrderStatusBulkUpdate(newStatus, 0, 0, List.of(), List.of());
+        }
+
+        // Lock the rows first, so the previous statuses handed to subscribers are the ones the UPDATE replaces
+        Set<Order.OrderStatus> allowedSources = statusTransitions.sourcesOf(newStatus);
+        List<OrderStatusSnapshot> current = orderRepository.findStatusesForUpdateByIdIn(distinctIds);
+
+        Set<Long> missing = new LinkedHashSet<>(distinctIds);
+        List<OrderStatusSnapshot> eligible = new ArrayList<>(current.size());
+        List<Long> rejected = new ArrayList<>();
+        for (OrderStatusSnapshot order : current) {
+            missing.remove(order.orderId());
+            if (order.status() == newStatus) {
+                continue;
+            }
+            if (allowedSources.contains(order.status())) {
+                eligible.add(order);
+            } else {
+                rejected.add(order.orderId());
+            }
+        }
 
-        // Validate status transition
-        if (order.getStatus() == Order.OrderStatus.CANCELLED) {
-            throw new IllegalStateException("Cannot update status of a cancelled order");
+        // One guarded UPDATE; the transition table decides which current statuses qualify
+        int updated = 0;
+        if (!eligible.isEmpty()) {
+            List<Long> eligibleIds = eligible.stream().map(OrderStatusSnapshot::orderId).toList();
+            updated = orderRepository.updateStatusWhereStatusIn(eligibleIds, newStatus, allowedSources);
+            orderResponseCache.invalidateAll(eligibleIds);
         }
 
-        if (order.getStatus() == Order.OrderStatus.DELIVERED) {
-            throw new IllegalStateException("Cannot update status of a delivered order");
+        if (orderEventBus.hasSubscribers()) {
+            LocalDateTime now = LocalDateTime.now();
+            for (OrderStatusSnapshot order : eligible) {
+                orderEventBus.publishAfterCommit(new OrderStatusEvent(
+                        order.orderId(), order.clientId(), order.status(), newStatus, now));
+            }
         }
 
-        order.setStatus(newStatus);
-        return orderRepository.save(order);
+        log.info("Updated {} of {} orders to status {}", updated, distinctIds.size(), newStatus);
+        return new OrderStatusBulkUpdate(newStatus, distinctIds.size(), updated, rejected, List.copyOf(missing));
     }
 
     @Override
@@ -148,28 +456,92 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
-    public Order cancelOrder(Long orderId) {
-        log.info("Cancelling order with ID: {}", orderId);
-
-        Order order = getOrderById(orderId);
+    @Transactional(readOnly = true)
+    public OrderPage getOrdersPage(String afterCursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        log.info("Fetching page of {} orders after cursor: {}", pageSize, afterCursor);
+
+        // Fetch one extra row to learn whether another page follows
+        Limit limit = Limit.of(pageSize + 1);
+        List<Order> orders;
+        if (afterCursor == null || afterCursor.isBlank()) {
+            orders = orderRepository.findFirstPage(limit);
+        } else {
+            OrderCursor cursor = OrderCursor.decode(afterCursor);
+            orders = orderRepository.findPageAfter(cursor.orderDate(), cursor.id(), limit);
+        }
+        return toPage(orders, pageSize);
+    }
 
-        if (order.getStatus() == Order.OrderStatus.DELIVERED) {
-            throw new IllegalStateException("Cannot cancel a delivered order");
+    @Override
+    @Transactional(readOnly = true)
+    public OrderPage getOrdersPageByClientId(Long clientId, String afterCursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        log.info("Fetching page of {} orders for client {} after cursor: {}", pageSize, clientId, afterCursor);
+
+        Limit limit = Limit.of(pageSize + 1);
+        List<Order> orders;
+        if (afterCursor == null || afterCursor.isBlank()) {
+            orders = orderRepository.findFirstPageByClientId(clientId, limit);
+        } else {
+            OrderCursor cursor = OrderCursor.decode(afterCursor);
+            orders = orderRepository.findPageAfterByClientId(clientId, cursor.orderDate(), cursor.id(), limit);
         }
+        return toPage(orders, pageSize);
+    }
 
-        if (order.getStatus() == Order.OrderStatus.CANCELLED) {
-            throw new IllegalStateException("Order is already cancelled");
+    private OrderPage toPage(List<Order> orders, int pageSize) {
+        boolean hasNext = orders.size() > pageSize;
+        if (hasNext) {
+            orders = orders.subList(0, pageSize);
         }
+        String nextCursor = hasNext ? OrderCursor.of(orders.get(orders.size() - 1)).encode() : null;
+        return new OrderPage(orders, nextCursor, hasNext);
+    }
 
-        // Restore stock for cancelled orders
-        for (OrderItem item : order.getItems()) {
-            var product = item.getProduct();
-            product.setStockQuantity(product.getStockQuantity() + item.getQuantity());
-            productRepository.save(product);
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrders(Consumer<Order> consumer) {
+        log.info("Exporting all orders");
+
+        // Detach each order once consumed so the persistence context does not grow with the export
+        try (Stream<Order> orders = orderRepository.streamAllWithDetails()) {
+            orders.forEach(order -> {
+                consumer.accept(order);
+                entityManager.detach(order);
+            });
         }
+    }
 
-        order.setStatus(Order.OrderStatus.CANCELLED);
-        return orderRepository.save(order);
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Order cancelOrder(Long orderId) {
+        log.info("Cancelling order with ID: {}", orderId);
+
+        return retryExecutor.execute("cancelOrder", () -> {
+            Order order = getOrderById(orderId, OrderFetchPlan.WITH_DETAILS);
+
+            if (order.getStatus() == Order.OrderStatus.DELIVERED) {
+                throw new IllegalStateException("Cannot cancel a delivered order");
+            }
+            if (order.getStatus() == Order.OrderStatus.CANCELLED) {
+                throw new IllegalStateException("Order is already cancelled");
+            }
+            statusTransitions.validate(order.getStatus(), Order.OrderStatus.CANCELLED);
+
+            // Restore stock for cancelled orders; only the attempt that commits releases it
+            stockLedger.releaseAfterCommit(order.getItems());
+
+            publishStatusChange(order, order.getStatus(), Order.OrderStatus.CANCELLED);
+            order.setStatus(Order.OrderStatus.CANCELLED);
+            orderTotalsCache.invalidate(orderId);
+            orderResponseCache.invalidate(orderId);
+            return orderRepository.saveAndFlush(order);
+        });
     }
-}
 
+    private void publishStatusChange(Order order, Order.OrderStatus previousStatus, Order.OrderStatus newStatus) {
+        orderEventBus.publishAfterCommit(new OrderStatusEvent(
+                order.getId(), order.getClient().getId(), previousStatus, newStatus, LocalDateTime.now()));
+    }
+}
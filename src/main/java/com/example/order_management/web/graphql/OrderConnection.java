@@ -0,0 +1,27 @@
+package com.example.order_management.web.graphql;
+
+import com.example.order_management.model.Order;
+import com.example.order_management.service.OrderCursor;
+import com.example.order_management.service.OrderPage;
+
+import java.util.List;
+
+/**
+ * Relay-style connection over a keyset-paginated page of orders
+ */
+public record OrderConnection(List<Edge> edges, PageInfo pageInfo) {
+
+    public record Edge(String cursor, Order node) {
+    }
+
+    public record PageInfo(boolean hasNextPage, String endCursor) {
+    }
+
+    public static OrderConnection of(OrderPage page) {
+        List<Edge> edges = page.orders().stream()
+                .map(order -> new Edge(OrderCursor.of(order).encode(), order))
+                .toList();
+        String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).cursor();
+        return new OrderConnection(edges, new PageInfo(page.hasNext(), endCursor));
+    }
+}
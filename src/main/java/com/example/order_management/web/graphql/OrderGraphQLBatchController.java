@@ -0,0 +1,104 @@
+package com.example.order_management.web.graphql;
+
+import com.example.order_management.model.Client;
+import com.example.order_management.model.Order;
+import com.example.order_management.model.OrderItem;
+import com.example.order_management.model.Product;
+import com.example.order_management.repository.ClientRepository;
+import com.example.order_management.repository.OrderItemRepository;
+import com.example.order_management.repository.OrderRepository;
+import com.example.order_management.repository.ProductRepository;
+import org.dataloader.DataLoader;
+import org.hibernate.Hibernate;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves nested GraphQL fields through DataLoaders keyed by id, so each field costs one
+ * {@code IN (...)} query per request instead of one lazy load per parent.
+ */
+@Controller
+public class OrderGraphQLBatchController {
+
+    private final ClientRepository clientRepository;
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    public OrderGraphQLBatchController(BatchLoaderRegistry registry,
+                                       ClientRepository clientRepository,
+                                       ProductRepository productRepository,
+                                       OrderRepository orderRepository,
+                                       OrderItemRepository orderItemRepository) {
+        this.clientRepository = clientRepository;
+        this.productRepository = productRepository;
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+
+        registry.<Long, Client>forName("clientsById")
+                .registerMappedBatchLoader((ids, env) -> Mono.fromSupplier(() -> loadClients(ids)));
+        registry.<Long, Product>forName("productsById")
+                .registerMappedBatchLoader((ids, env) -> Mono.fromSupplier(() -> loadProducts(ids)));
+        registry.<Long, List<OrderItem>>forName("itemsByOrderId")
+                .registerMappedBatchLoader((ids, env) -> Mono.fromSupplier(() -> loadItems(ids)));
+        registry.<Long, List<Order>>forName("ordersByClientId")
+                .registerMappedBatchLoader((ids, env) -> Mono.fromSupplier(() -> loadOrders(ids)));
+    }
+
+    @SchemaMapping(typeName = "Order", field = "client")
+    public CompletableFuture<Client> client(Order order, DataLoader<Long, Client> clientsById) {
+        return clientsById.load(order.getClient().getId());
+    }
+
+    @SchemaMapping(typeName = "Order", field = "items")
+    public CompletableFuture<List<OrderItem>> items(Order order, DataLoader<Long, List<OrderItem>> itemsByOrderId) {
+        return itemsByOrderId.load(order.getId());
+    }
+
+    @SchemaMapping(typeName = "OrderItem", field = "product")
+    public CompletableFuture<Product> product(OrderItem item, DataLoader<Long, Product> productsById) {
+        // Items are loaded with their product; only fall back to the loader for uninitialized proxies
+        if (Hibernate.isInitialized(item.getProduct())) {
+            return CompletableFuture.completedFuture(item.getProduct());
+        }
+        return productsById.load(item.getProduct().getId());
+    }
+
+    @SchemaMapping(typeName = "Client", field = "orders")
+    public CompletableFuture<List<Order>> orders(Client client, DataLoader<Long, List<Order>> ordersByClientId) {
+        return ordersByClientId.load(client.getId());
+    }
+
+    private Map<Long, Client> loadClients(Set<Long> ids) {
+        return clientRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Client::getId, Function.identity()));
+    }
+
+    private Map<Long, Product> loadProducts(Set<Long> ids) {
+        return productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    private Map<Long, List<OrderItem>> loadItems(Set<Long> orderIds) {
+        Map<Long, List<OrderItem>> itemsByOrder = orderItemRepository.findByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+        orderIds.forEach(id -> itemsByOrder.putIfAbsent(id, List.of()));
+        return itemsByOrder;
+    }
+
+    private Map<Long, List<Order>> loadOrders(Set<Long> clientIds) {
+        Map<Long, List<Order>> ordersByClient = orderRepository.findByClientIdIn(clientIds).stream()
+                .collect(Collectors.groupingBy(order -> order.getClient().getId()));
+        clientIds.forEach(id -> ordersByClient.putIfAbsent(id, List.of()));
+        return ordersByClient;
+    }
+}
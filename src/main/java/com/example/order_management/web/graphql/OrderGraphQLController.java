@@ -1,17 +1,26 @@
 package com.example.order_management.web.graphql;
 
+import com.example.order_management.event.OrderEventBus;
+import com.example.order_management.event.OrderStatusEvent;
 import com.example.order_management.model.Client;
 import com.example.order_management.model.Order;
 import com.example.order_management.model.OrderItem;
 import com.example.order_management.model.Product;
 import com.example.order_management.repository.ClientRepository;
 import com.example.order_management.repository.ProductRepository;
+import com.example.order_management.service.OrderCreationResult;
+import com.example.order_management.service.OrderFetchPlan;
 import com.example.order_management.service.OrderService;
+import com.example.order_management.service.OrderStatusBulkUpdate;
+import com.example.order_management.service.OrderTotal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -22,7 +31,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class OrderGraphQLController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final OrderService orderService;
+    private final OrderEventBus orderEventBus;
     private final ClientRepository clientRepository;
     private final ProductRepository productRepository;
 
@@ -31,14 +43,26 @@ public class OrderGraphQLController {
         return orderService.getAllOrders();
     }
 
+    @QueryMapping
+    public OrderConnection ordersConnection(@Argument Integer first, @Argument String after) {
+        int size = first != null ? first : DEFAULT_PAGE_SIZE;
+        return OrderConnection.of(orderService.getOrdersPage(after, size));
+    }
+
+    @SchemaMapping(typeName = "Client", field = "ordersConnection")
+    public OrderConnection clientOrdersConnection(Client client, @Argument Integer first, @Argument String after) {
+        int size = first != null ? first : DEFAULT_PAGE_SIZE;
+        return OrderConnection.of(orderService.getOrdersPageByClientId(client.getId(), after, size));
+    }
+
     @QueryMapping
     public Order order(@Argument Long id) {
-        return orderService.getOrderById(id);
+        return orderService.getOrderById(id, OrderFetchPlan.ORDER_ONLY);
     }
 
     @QueryMapping
     public List<Order> ordersByClient(@Argument Long clientId) {
-        return orderService.getOrdersByClientId(clientId);
+        return orderService.getOrdersByClientId(clientId, OrderFetchPlan.ORDER_ONLY);
     }
 
     @QueryMapping
@@ -46,6 +70,11 @@ public class OrderGraphQLController {
         return orderService.calculateOrderTotal(orderId);
     }
 
+    @QueryMapping
+    public List<OrderTotal> orderTotals(@Argument List<Long> orderIds) {
+        return orderService.getOrderTotals(orderIds);
+    }
+
     @QueryMapping
     public List<Client> clients() {
         return clientRepository.findAll();
@@ -70,13 +99,48 @@ public class OrderGraphQLController {
 
     @MutationMapping
     public Order createOrder(@Argument Map<String, Object> input) {
+        return orderService.createOrder(toOrder(input));
+    }
+
+    @MutationMapping
+    public List<OrderCreationResult> createOrders(@Argument List<Map<String, Object>> inputs) {
+        List<Order> orders = new ArrayList<>(inputs.size());
+        for (Map<String, Object> input : inputs) {
+            orders.add(toOrder(input));
+        }
+        return orderService.createOrders(orders);
+    }
+
+    @MutationMapping
+    public Order updateOrderStatus(@Argument Long orderId, @Argument String status) {
+        Order.OrderStatus orderStatus = Order.OrderStatus.valueOf(status);
+        return orderService.updateOrderStatus(orderId, orderStatus);
+    }
+
+    @MutationMapping
+    public OrderStatusBulkUpdate updateOrderStatuses(@Argument List<Long> orderIds, @Argument String status) {
+        return orderService.updateOrderStatuses(orderIds, Order.OrderStatus.valueOf(status));
+    }
+
+    @MutationMapping
+    public Order cancelOrder(@Argument Long orderId) {
+        return orderService.cancelOrder(orderId);
+    }
+
+    @SubscriptionMapping
+    public Flux<OrderStatusEvent> orderStatusChanged(@Argument Long clientId) {
+        return orderEventBus.subscribe(clientId);
+    }
+
+    private Order toOrder(Map<String, Object> input) {
         Long clientId = Long.valueOf(input.get("clientId").toString());
         String shippingAddress = (String) input.get("shippingAddress");
         @SuppressWarnings("unchecked")
         List<Map<String, Object>> itemsInput = (List<Map<String, Object>>) input.get("items");
 
-        Client client = clientRepository.findById(clientId)
-                .orElseThrow(() -> new IllegalArgumentException("Client not found"));
+        // Only ids are needed here; the service resolves and validates them against the catalog cache
+        Client client = new Client();
+        client.setId(clientId);
 
         Order order = new Order();
         order.setClient(client);
@@ -88,31 +152,18 @@ public class OrderGraphQLController {
             Long productId = Long.valueOf(itemInput.get("productId").toString());
             Integer quantity = Integer.valueOf(itemInput.get("quantity").toString());
 
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found"));
+            Product product = new Product();
+            product.setId(productId);
 
             OrderItem item = new OrderItem();
             item.setOrder(order);
             item.setProduct(product);
             item.setQuantity(quantity);
-            item.setPrice(product.getPrice());
 
             items.add(item);
         }
 
         order.setItems(items);
-        return orderService.createOrder(order);
-    }
-
-    @MutationMapping
-    public Order updateOrderStatus(@Argument Long orderId, @Argument String status) {
-        Order.OrderStatus orderStatus = Order.OrderStatus.valueOf(status);
-        return orderService.updateOrderStatus(orderId, orderStatus);
-    }
-
-    @MutationMapping
-    public Order cancelOrder(@Argument Long orderId) {
-        return orderService.cancelOrder(orderId);
+        return order;
     }
 }
-
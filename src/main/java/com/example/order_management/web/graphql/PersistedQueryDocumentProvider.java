@@ -0,0 +1,142 @@
+package com.example.order_management.web.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryError;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Caches parsed and validated GraphQL documents by the SHA-256 hash of their text.
+ * <p>
+ * Every successfully validated query is registered under its hash, so repeated queries skip
+ * parsing and validation. Clients may then send only the hash, following the Apollo automatic
+ * persisted query protocol ({@code extensions.persistedQuery.sha256Hash}); an unknown hash is
+ * answered with {@code PersistedQueryNotFound} and the client retries with the full text.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+    private record CachedDocument(PreparsedDocumentEntry entry, long parseNanos) {
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${graphql.persisted-queries.max-documents:1000}")
+    private long maxDocuments;
+
+    private Cache<String, CachedDocument> documents;
+
+    private Counter parseTimeSaved;
+    private Counter notFound;
+    private Timer parseTime;
+
+    @PostConstruct
+    public void init() {
+        documents = Caffeine.newBuilder()
+                .maximumSize(maxDocuments)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, documents, "graphql.documents");
+        parseTime = meterRegistry.timer("graphql.documents.parse");
+        parseTimeSaved = Counter.builder("graphql.documents.parse.saved")
+                .description("Parse and validation time avoided by cached documents")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        notFound = meterRegistry.counter("graphql.documents.persisted.not-found");
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        String query = executionInput.getQuery();
+        // graphql-java puts a marker in place of the missing text of a hash-only request
+        boolean hasQuery = query != null && !query.isBlank() && !PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query);
+        String persistedHash = persistedHashOf(executionInput.getExtensions());
+
+        if (persistedHash == null && !hasQuery) {
+            // Neither text nor hash; let the normal path report the syntax error
+            return CompletableFuture.completedFuture(parseAndValidateFunction.apply(executionInput));
+        }
+
+        String hash = hasQuery ? sha256(query) : persistedHash;
+        if (persistedHash != null && !persistedHash.equalsIgnoreCase(hash)) {
+            PersistedQueryIdInvalid error = new PersistedQueryIdInvalid(persistedHash);
+            return CompletableFuture.completedFuture(errorEntry(error, error.getExtensions()));
+        }
+
+        CachedDocument cached = documents.getIfPresent(hash);
+        if (cached != null) {
+            parseTimeSaved.increment(cached.parseNanos() / 1e9);
+            return CompletableFuture.completedFuture(cached.entry());
+        }
+
+        if (!hasQuery) {
+            notFound.increment();
+            PersistedQueryNotFound error = new PersistedQueryNotFound(hash);
+            return CompletableFuture.completedFuture(errorEntry(error, error.getExtensions()));
+        }
+
+        long start = System.nanoTime();
+        PreparsedDocumentEntry entry = parseAndValidateFunction.apply(executionInput);
+        long elapsed = System.nanoTime() - start;
+        parseTime.record(elapsed, TimeUnit.NANOSECONDS);
+
+        // Only register documents that validated; errors may depend on the request's locale
+        if (!entry.hasErrors()) {
+            documents.put(hash, new CachedDocument(entry, elapsed));
+            log.debug("Registered GraphQL document {}", hash);
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    private static PreparsedDocumentEntry errorEntry(PersistedQueryError error, Map<String, Object> extensions) {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                .errorType(error)
+                .message(error.getMessage())
+                .extensions(extensions)
+                .build());
+    }
+
+    private static String persistedHashOf(Map<String, Object> extensions) {
+        if (extensions != null && extensions.get("persistedQuery") instanceof Map<?, ?> persistedQuery
+                && persistedQuery.get("sha256Hash") instanceof String hash && !hash.isBlank()) {
+            return hash;
+        }
+        return null;
+    }
+
+    private static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.order_management.web.graphql;
+
+import com.example.order_management.persistence.SqlStatementCounter;
+import graphql.ExecutionResult;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.normalized.ExecutableNormalizedField;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLTypeUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rejects GraphQL operations that are too deep or too expensive before any field is fetched.
+ * <p>
+ * The estimated cost of a field is its weight plus, for object fields, the expected number of
+ * elements times the cost of one element (1 plus the cost of its selections). Object fields weigh
+ * 1 and scalars 0 unless overridden under {@code graphql.query-cost.field-weights}. The expected
+ * size of a list is, in order: its {@code first} argument (or its parent's, for connection edges),
+ * the size of a list argument such as {@code orderIds}, {@code graphql.query-cost.list-sizes}, or
+ * {@code graphql.query-cost.default-list-size}. Introspection fields are not counted.
+ * <p>
+ * The estimate and the SQL statements the operation actually issued are recorded per operation.
+ * The actual cost comes from {@link SqlStatementCounter}, which only sees statements prepared on the
+ * executing thread; anything fetched on another thread is missing from it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+
+    // Distinct operation names tagged on metrics before the rest are reported as "other"
+    private static final int MAX_TAGGED_OPERATIONS = 100;
+
+    private static final class CostState implements InstrumentationState {
+        private String operation = "anonymous";
+        private long estimatedCost;
+        private long statementsAtStart;
+        private boolean executed;
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Value("${graphql.query-cost.max-cost:10000}")
+    private long maxCost;
+
+    @Value("${graphql.query-cost.max-depth:8}")
+    private int maxDepth;
+
+    @Value("${graphql.query-cost.default-list-size:10}")
+    private int defaultListSize;
+
+    private final Map<String, Integer> fieldWeights = new HashMap<>();
+    private final Map<String, Integer> listSizes = new HashMap<>();
+    private final Set<String> taggedOperations = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        Binder binder = Binder.get(environment);
+        binder.bind("graphql.query-cost.field-weights", Bindable.mapOf(String.class, Integer.class))
+                .ifBound(weights -> weights.forEach((field, weight) -> fieldWeights.put(keyOf(field), weight)));
+        binder.bind("graphql.query-cost.list-sizes", Bindable.mapOf(String.class, Integer.class))
+                .ifBound(sizes -> sizes.forEach((field, size) -> listSizes.put(keyOf(field), size)));
+        log.info("GraphQL query limits: max cost {}, max depth {}", maxCost, maxDepth);
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return new CostState();
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+        CostState cost = (CostState) state;
+        ExecutionContext context = parameters.getExecutionContext();
+        GraphQLSchema schema = context.getGraphQLSchema();
+        cost.operation = operationTag(context.getOperationDefinition().getName());
+
+        List<ExecutableNormalizedField> topLevelFields = context.getNormalizedQueryTree().get().getTopLevelFields();
+        int depth = 0;
+        long estimated = 0;
+        for (ExecutableNormalizedField field : topLevelFields) {
+            depth = Math.max(depth, depthOf(field));
+            estimated = saturatedAdd(estimated, costOf(field, null, schema));
+        }
+
+        if (depth > maxDepth) {
+            reject(cost, "depth");
+            throw new AbortExecutionException("Query depth " + depth + " exceeds the maximum of " + maxDepth);
+        }
+        if (estimated > maxCost) {
+            meterRegistry.summary("graphql.query.cost.estimated", "operation", cost.operation).record(estimated);
+            reject(cost, "cost");
+            throw new AbortExecutionException("Query cost " + estimated + " exceeds the budget of " + maxCost);
+        }
+
+        cost.estimatedCost = estimated;
+        cost.statementsAtStart = SqlStatementCounter.count();
+        cost.executed = true;
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(
+            ExecutionResult executionResult, InstrumentationExecutionParameters parameters, InstrumentationState state) {
+        CostState cost = (CostState) state;
+        if (cost != null && cost.executed) {
+            // Only statements prepared on this thread; see SqlStatementCounter
+            long actual = SqlStatementCounter.count() - cost.statementsAtStart;
+            meterRegistry.summary("graphql.query.cost.estimated", "operation", cost.operation).record(cost.estimatedCost);
+            meterRegistry.summary("graphql.query.cost.actual", "operation", cost.operation).record(actual);
+        }
+        return super.instrumentExecutionResult(executionResult, parameters, state);
+    }
+
+    private long costOf(ExecutableNormalizedField field, ExecutableNormalizedField parent, GraphQLSchema schema) {
+        if (isIntrospection(field)) {
+            return 0;
+        }
+
+        GraphQLOutputType type = field.getType(schema);
+        String key = keyOf(field.getSingleObjectTypeName() + "." + field.getName());
+        if (GraphQLTypeUtil.isLeaf(GraphQLTypeUtil.unwrapAll(type))) {
+            return fieldWeights.getOrDefault(key, 0);
+        }
+
+        long elementCost = 1;
+        for (ExecutableNormalizedField child : field.getChildren()) {
+            elementCost = saturatedAdd(elementCost, costOf(child, field, schema));
+        }
+        long elements = GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(type)) ? listSizeOf(field, parent, key) : 1;
+        return saturatedAdd(fieldWeights.getOrDefault(key, 1), saturatedMultiply(elements, elementCost));
+    }
+
+    private long listSizeOf(ExecutableNormalizedField field, ExecutableNormalizedField parent, String key) {
+        if (field.getResolvedArguments().get("first") instanceof Integer first) {
+            return Math.max(first, 0);
+        }
+        // Connection edges are sized by the first argument of the connection field
+        if (parent != null && parent.getResolvedArguments().get("first") instanceof Integer first) {
+            return Math.max(first, 0);
+        }
+        for (Object argument : field.getResolvedArguments().values()) {
+            if (argument instanceof Collection<?> values) {
+                return values.size();
+            }
+        }
+        return listSizes.getOrDefault(key, defaultListSize);
+    }
+
+    private static int depthOf(ExecutableNormalizedField field) {
+        if (isIntrospection(field)) {
+            return 0;
+        }
+        int childDepth = 0;
+        for (ExecutableNormalizedField child : field.getChildren()) {
+            childDepth = Math.max(childDepth, depthOf(child));
+        }
+        return 1 + childDepth;
+    }
+
+    private static boolean isIntrospection(ExecutableNormalizedField field) {
+        return field.getName().startsWith("__");
+    }
+
+    private void reject(CostState cost, String reason) {
+        meterRegistry.counter("graphql.query.rejected", "operation", cost.operation, "reason", reason).increment();
+    }
+
+    private String operationTag(String operationName) {
+        if (operationName == null) {
+            return "anonymous";
+        }
+        if (taggedOperations.contains(operationName)
+                || (taggedOperations.size() < MAX_TAGGED_OPERATIONS && taggedOperations.add(operationName))) {
+            return operationName;
+        }
+        return "other";
+    }
+
+    private static String keyOf(String field) {
+        return field.toLowerCase(Locale.ROOT);
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        return (high == 0 && low >= 0) ? low : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.order_management.web.graphql;
+
+import com.example.order_management.persistence.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reports the number of SQL statements each GraphQL request issued, both as a metric and in the
+ * {@code sqlStatementCount} response extension.
+ * <p>
+ * The count covers statements prepared on the thread that handled the request. That holds for
+ * the synchronous controllers and batch loaders in this application, but any fetcher moved onto
+ * another thread would go uncounted, so treat the number as a lower bound.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementCountInterceptor implements WebGraphQlInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        SqlStatementCounter.reset();
+        return chain.next(request).map(response -> {
+            long count = SqlStatementCounter.count();
+            meterRegistry.summary("graphql.request.sql.statements").record(count);
+
+            Map<Object, Object> extensions = new LinkedHashMap<>(response.getExtensions());
+            extensions.put("sqlStatementCount", count);
+            return response.transform(builder -> builder.extensions(extensions));
+        });
+    }
+}
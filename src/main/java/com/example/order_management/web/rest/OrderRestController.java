@@ -1,13 +1,32 @@
 package com.example.order_management.web.rest;
 
+import com.example.order_management.cache.OrderResponseCache;
+import com.example.order_management.cache.OrderResponseCache.CachedOrderResponse;
 import com.example.order_management.model.Order;
+import com.example.order_management.service.OrderCreationResult;
+import com.example.order_management.service.OrderFetchPlan;
+import com.example.order_management.service.OrderPage;
 import com.example.order_management.service.OrderService;
+import com.example.order_management.service.OrderStatusBulkUpdate;
+import com.example.order_management.service.OrderSummary;
+import com.example.order_management.service.OrderTotal;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -16,6 +35,11 @@ import java.util.List;
 public class OrderRestController {
 
     private final OrderService orderService;
+    private final OrderResponseCache orderResponseCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${orders.export.timeout:10m}")
+    private Duration exportTimeout;
 
     @PostMapping
     public ResponseEntity<Order> createOrder(@RequestBody Order order) {
@@ -23,30 +47,90 @@ public class OrderRestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderCreationResult>> createOrders(@RequestBody List<Order> orders) {
+        List<OrderCreationResult> results = orderService.createOrders(orders);
+        return ResponseEntity.ok(results);
+    }
+
     @GetMapping
     public ResponseEntity<List<Order>> getAllOrders() {
         List<Order> orders = orderService.getAllOrders();
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping(params = "size")
+    public ResponseEntity<OrderPage> getOrdersPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String after) {
+        OrderPage page = orderService.getOrdersPage(after, size);
+        return ResponseEntity.ok(page);
+    }
+
+    // Streams on an async thread with its own timeout, rather than raising the default for every async request
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportOrders(HttpServletResponse response) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            OutputStream outputStream = response.getOutputStream();
+            orderService.exportOrders(order -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(order));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+            return null;
+        });
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
-        Order order = orderService.getOrderById(id);
-        return ResponseEntity.ok(order);
+    public ResponseEntity<byte[]> getOrderById(@PathVariable Long id, WebRequest request) {
+        CachedOrderResponse response = orderResponseCache.get(id,
+                orderId -> orderService.getOrderById(orderId, OrderFetchPlan.WITH_DETAILS));
+        if (request.checkNotModified(response.etag())) {
+            // Status and ETag headers are already set; no body for a 304
+            orderResponseCache.recordNotModified();
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
     }
 
     @GetMapping("/client/{clientId}")
     public ResponseEntity<List<Order>> getOrdersByClient(@PathVariable Long clientId) {
-        List<Order> orders = orderService.getOrdersByClientId(clientId);
+        List<Order> orders = orderService.getOrdersByClientId(clientId, OrderFetchPlan.WITH_DETAILS);
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/client/{clientId}/summaries")
+    public ResponseEntity<List<OrderSummary>> getOrderSummariesByClient(@PathVariable Long clientId) {
+        List<OrderSummary> summaries = orderService.getOrderSummariesByClientId(clientId);
+        return ResponseEntity.ok(summaries);
+    }
+
+    @GetMapping(value = "/summaries", params = "status")
+    public ResponseEntity<List<OrderSummary>> getOrderSummariesByStatus(@RequestParam Order.OrderStatus status) {
+        List<OrderSummary> summaries = orderService.getOrderSummariesByStatus(status);
+        return ResponseEntity.ok(summaries);
+    }
+
     @GetMapping("/{id}/total")
     public ResponseEntity<BigDecimal> getOrderTotal(@PathVariable Long id) {
         BigDecimal total = orderService.calculateOrderTotal(id);
         return ResponseEntity.ok(total);
     }
 
+    @PostMapping("/totals")
+    public ResponseEntity<List<OrderTotal>> getOrderTotals(@RequestBody List<Long> orderIds) {
+        List<OrderTotal> totals = orderService.getOrderTotals(orderIds);
+        return ResponseEntity.ok(totals);
+    }
+
     @PutMapping("/{id}/status")
     public ResponseEntity<Order> updateOrderStatus(
             @PathVariable Long id,
@@ -55,6 +139,14 @@ public class OrderRestController {
         return ResponseEntity.ok(updatedOrder);
     }
 
+    @PutMapping("/status")
+    public ResponseEntity<OrderStatusBulkUpdate> updateOrderStatuses(
+            @RequestBody List<Long> orderIds,
+            @RequestParam Order.OrderStatus status) {
+        OrderStatusBulkUpdate result = orderService.updateOrderStatuses(orderIds, status);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}/cancel")
     public ResponseEntity<Order> cancelOrder(@PathVariable Long id) {
         Order cancelledOrder = orderService.cancelOrder(id);
@@ -66,6 +158,11 @@ public class OrderRestController {
         return ResponseEntity.badRequest().body(e.getMessage());
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Order was modified concurrently, please retry");
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<String> handleIllegalState(IllegalStateException e) {
         return ResponseEntity.badRequest().body(e.getMessage());
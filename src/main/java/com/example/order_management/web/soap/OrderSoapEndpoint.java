@@ -1,7 +1,13 @@
 package com.example.order_management.web.soap;
 
+import com.example.order_management.model.Client;
 import com.example.order_management.model.Order;
+import com.example.order_management.model.OrderItem;
+import com.example.order_management.model.Product;
+import com.example.order_management.service.OrderCreationResult;
+import com.example.order_management.service.OrderFetchPlan;
 import com.example.order_management.service.OrderService;
+import com.example.order_management.service.OrderSummary;
 import com.example.order_management.orders.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +22,7 @@ import javax.xml.datatype.XMLGregorianCalendar;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -31,11 +38,7 @@ public class OrderSoapEndpoint {
     @ResponsePayload
     @Transactional(readOnly = true)
     public GetOrderResponse getOrder(@RequestPayload GetOrderRequest request) {
-        Order order = orderService.getOrderById(request.getOrderId());
-
-        // Force initialization of lazy-loaded properties
-        order.getClient().getName();
-        order.getItems().size();
+        Order order = orderService.getOrderById(request.getOrderId(), OrderFetchPlan.WITH_CLIENT);
 
         GetOrderResponse response = new GetOrderResponse();
         response.setOrder(convertToSoapOrder(order));
@@ -46,13 +49,8 @@ public class OrderSoapEndpoint {
     @ResponsePayload
     @Transactional(readOnly = true)
     public GetOrdersByClientResponse getOrdersByClient(@RequestPayload GetOrdersByClientRequest request) {
-        List<Order> orders = orderService.getOrdersByClientId(request.getClientId());
-
-        // Force initialization of lazy-loaded properties
-        orders.forEach(order -> {
-            order.getClient().getName();
-            order.getItems().size();
-        });
+        // Every field of the SOAP order comes from one projection query
+        List<OrderSummary> orders = orderService.getOrderSummariesByClientId(request.getClientId());
 
         GetOrdersByClientResponse response = new GetOrdersByClientResponse();
         orders.forEach(order -> response.getOrders().add(convertToSoapOrder(order)));
@@ -72,20 +70,56 @@ public class OrderSoapEndpoint {
 
     @PayloadRoot(namespace = NAMESPACE_URI, localPart = "updateOrderStatusRequest")
     @ResponsePayload
-    @Transactional
     public UpdateOrderStatusResponse updateOrderStatus(@RequestPayload UpdateOrderStatusRequest request) {
         Order.OrderStatus status = Order.OrderStatus.valueOf(request.getStatus().value());
         Order updatedOrder = orderService.updateOrderStatus(request.getOrderId(), status);
 
-        // Force initialization of lazy-loaded properties
-        updatedOrder.getClient().getName();
-        updatedOrder.getItems().size();
-
         UpdateOrderStatusResponse response = new UpdateOrderStatusResponse();
         response.setOrder(convertToSoapOrder(updatedOrder));
         return response;
     }
 
+    @PayloadRoot(namespace = NAMESPACE_URI, localPart = "createOrdersRequest")
+    @ResponsePayload
+    public CreateOrdersResponse createOrders(@RequestPayload CreateOrdersRequest request) {
+        List<Order> orders = new ArrayList<>(request.getOrders().size());
+        request.getOrders().forEach(newOrder -> orders.add(convertFromSoapOrder(newOrder)));
+
+        CreateOrdersResponse response = new CreateOrdersResponse();
+        for (OrderCreationResult result : orderService.createOrders(orders)) {
+            CreateOrderResult soapResult = new CreateOrderResult();
+            soapResult.setIndex(result.index());
+            soapResult.setOrderId(result.orderId());
+            soapResult.setTotalAmount(result.totalAmount());
+            soapResult.setError(result.error());
+            response.getResults().add(soapResult);
+        }
+        return response;
+    }
+
+    private Order convertFromSoapOrder(NewOrder newOrder) {
+        Client client = new Client();
+        client.setId(newOrder.getClientId());
+
+        Order order = new Order();
+        order.setClient(client);
+        order.setShippingAddress(newOrder.getShippingAddress());
+
+        List<OrderItem> items = new ArrayList<>(newOrder.getItems().size());
+        for (NewOrderItem newItem : newOrder.getItems()) {
+            Product product = new Product();
+            product.setId(newItem.getProductId());
+
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProduct(product);
+            item.setQuantity(newItem.getQuantity());
+            items.add(item);
+        }
+        order.setItems(items);
+        return order;
+    }
+
     private com.example.order_management.orders.Order convertToSoapOrder(Order order) {
         com.example.order_management.orders.Order soapOrder = new com.example.order_management.orders.Order();
         soapOrder.setId(order.getId());
@@ -98,6 +132,18 @@ public class OrderSoapEndpoint {
         return soapOrder;
     }
 
+    private com.example.order_management.orders.Order convertToSoapOrder(OrderSummary order) {
+        com.example.order_management.orders.Order soapOrder = new com.example.order_management.orders.Order();
+        soapOrder.setId(order.id());
+        soapOrder.setClientId(order.clientId());
+        soapOrder.setClientName(order.clientName());
+        soapOrder.setOrderDate(convertToXMLGregorianCalendar(order.orderDate()));
+        soapOrder.setStatus(OrderStatus.fromValue(order.status().name()));
+        soapOrder.setTotalAmount(order.totalAmount());
+        soapOrder.setShippingAddress(order.shippingAddress());
+        return soapOrder;
+    }
+
     private XMLGregorianCalendar convertToXMLGregorianCalendar(LocalDateTime dateTime) {
         try {
             GregorianCalendar gregorianCalendar = GregorianCalendar.from(
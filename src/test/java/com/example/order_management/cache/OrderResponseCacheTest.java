@@ -0,0 +1,151 @@
+package com.example.order_management.cache;
+
+import com.example.order_management.cache.OrderResponseCache.CachedOrderResponse;
+import com.example.order_management.model.Client;
+import com.example.order_management.model.Order;
+import com.example.order_management.model.OrderItem;
+import com.example.order_management.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderResponseCacheTest {
+
+    private final Map<Long, Order> orders = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private OrderResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OrderResponseCache(JsonMapper.builder().build(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maxBytes", 1024L * 1024);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(10));
+        cache.init();
+
+        orders.put(1L, order(1L, 10L, product(100L, 5)));
+        orders.put(2L, order(2L, 20L, product(200L, 5)));
+    }
+
+    @Test
+    void repeatedReadsAreServedFromTheCache() {
+        CachedOrderResponse first = get(1L);
+        CachedOrderResponse second = get(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(first.clientId()).isEqualTo(10L);
+        assertThat(first.productIds()).containsExactly(100L);
+    }
+
+    @Test
+    void etagChangesWhenAnEmbeddedProductChanges() {
+        String before = get(1L).etag();
+
+        // Same order version, renamed product
+        orders.get(1L).getItems().get(0).getProduct().setName("Renamed");
+        cache.invalidateProducts(Set.of(100L));
+
+        assertThat(get(1L).etag()).isNotEqualTo(before).startsWith("\"1-");
+    }
+
+    @Test
+    void embeddedProductsLeaveOutStockAndVersion() {
+        String before = get(1L).etag();
+
+        // What a stock flush changes on the product row
+        Product product = orders.get(1L).getItems().get(0).getProduct();
+        product.setStockQuantity(4);
+        product.setVersion(7L);
+        cache.invalidateProducts(Set.of(100L));
+
+        CachedOrderResponse after = get(1L);
+        assertThat(after.etag()).isEqualTo(before);
+        assertThat(new String(after.body(), StandardCharsets.UTF_8))
+                .contains("\"name\":\"Product 100\"")
+                .doesNotContain("stockQuantity")
+                .doesNotContain("\"version\":7");
+    }
+
+    @Test
+    void loadRacingAnInvalidationIsNotKept() {
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            cache.invalidate(id);
+            return orders.get(id);
+        });
+        get(1L);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void productInvalidationOnlyDropsResponsesEmbeddingTheProduct() {
+        get(1L);
+        get(2L);
+
+        cache.invalidateProducts(Set.of(100L));
+        get(1L);
+        get(2L);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void clientInvalidationOnlyDropsThatClientsResponses() {
+        get(1L);
+        get(2L);
+
+        cache.invalidateClient(20L);
+        get(1L);
+        get(2L);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    private CachedOrderResponse get(Long orderId) {
+        return cache.get(orderId, id -> {
+            loads.incrementAndGet();
+            return orders.get(id);
+        });
+    }
+
+    private static Order order(Long id, Long clientId, Product product) {
+        Client client = new Client();
+        client.setId(clientId);
+        client.setName("Client " + clientId);
+
+        Order order = new Order();
+        order.setId(id);
+        order.setClient(client);
+        order.setOrderDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+        order.setStatus(Order.OrderStatus.PENDING);
+        order.setVersion(0L);
+        order.setItems(List.of(new OrderItem(id * 10, order, product, 1, product.getPrice())));
+        order.calculateTotal();
+        return order;
+    }
+
+    private static Product product(Long id, int stock) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setPrice(new BigDecimal("9.99"));
+        product.setStockQuantity(stock);
+        return product;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.order_management.cache;
+
+import com.example.order_management.repository.OrderRepository;
+import com.example.order_management.service.OrderTotal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderTotalsCacheTest {
+
+    private OrderRepository orderRepository;
+    private OrderTotalsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        cache = new OrderTotalsCache(orderRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maximumSize", 100_000L);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(30));
+        cache.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllLoadsMissesInChunks() {
+        when(orderRepository.findTotalsByIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> new OrderTotal(id, BigDecimal.valueOf(id))).toList();
+        });
+        List<Long> ids = LongStream.rangeClosed(1, 2_500).boxed().toList();
+
+        Map<Long, BigDecimal> totals = cache.getAll(ids);
+
+        assertThat(totals).hasSize(2_500).containsEntry(2_500L, BigDecimal.valueOf(2_500));
+        ArgumentCaptor<Collection<Long>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(orderRepository, times(3)).findTotalsByIdIn(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(Collection::size).containsExactly(1_000, 1_000, 500);
+
+        // Everything is cached now, so a second lookup queries nothing
+        cache.getAll(ids);
+        verify(orderRepository, times(3)).findTotalsByIdIn(any());
+    }
+
+    @Test
+    void getAllLeavesMissingOrdersOut() {
+        when(orderRepository.findTotalsByIdIn(any())).thenReturn(List.of(new OrderTotal(1L, BigDecimal.TEN)));
+
+        assertThat(cache.getAll(List.of(1L, 2L))).containsOnlyKeys(1L);
+    }
+
+    @Test
+    void putAfterCommitIsDiscardedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.putAfterCommit(1L, BigDecimal.TEN);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        when(orderRepository.findTotalAmountById(1L)).thenReturn(Optional.empty());
+        assertThat(cache.get(1L)).isNull();
+        verify(orderRepository).findTotalAmountById(1L);
+    }
+
+    @Test
+    void putAfterCommitStoresTheTotalOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.putAfterCommit(1L, BigDecimal.TEN);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(cache.get(1L)).isEqualByComparingTo("10");
+        verify(orderRepository, never()).findTotalAmountById(any());
+    }
+
+    @Test
+    void invalidateAlsoDropsTotalsReloadedBeforeCommit() {
+        when(orderRepository.findTotalAmountById(1L))
+                .thenReturn(Optional.of(BigDecimal.TEN))
+                .thenReturn(Optional.of(BigDecimal.ONE));
+        cache.get(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate(1L);
+        // A concurrent read reloads the old, still committed total
+        assertThat(cache.get(1L)).isEqualByComparingTo("1");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        when(orderRepository.findTotalAmountById(1L)).thenReturn(Optional.of(BigDecimal.ZERO));
+        assertThat(cache.get(1L)).isEqualByComparingTo("0");
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
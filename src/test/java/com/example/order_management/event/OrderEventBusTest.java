@@ -0,0 +1,163 @@
+package com.example.order_management.event;
+
+import com.example.order_management.model.Order;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class OrderEventBusTest {
+
+    private static final long CLIENT_ID = 1L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderEventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventBus = new OrderEventBus(meterRegistry);
+        ReflectionTestUtils.setField(eventBus, "bufferSize", 2);
+        eventBus.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        eventBus.shutdown();
+    }
+
+    @Test
+    void slowSubscriberSeesTheLatestStatusOfEachOrder() {
+        RecordingSubscriber subscriber = subscribe(CLIENT_ID);
+
+        eventBus.publish(event(1L, Order.OrderStatus.PENDING, Order.OrderStatus.PROCESSING));
+        eventBus.publish(event(2L, null, Order.OrderStatus.PENDING));
+        eventBus.publish(event(1L, Order.OrderStatus.PROCESSING, Order.OrderStatus.SHIPPED));
+        subscriber.request(10);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> subscriber.received.size() == 2);
+        // The conflated event moves behind the others and spans both changes
+        assertThat(subscriber.received).containsExactly(
+                event(2L, null, Order.OrderStatus.PENDING),
+                event(1L, Order.OrderStatus.PENDING, Order.OrderStatus.SHIPPED));
+        assertThat(meterRegistry.counter("orders.events.conflated").count()).isEqualTo(1);
+    }
+
+    @Test
+    void fullBufferDropsTheOldestOrder() {
+        RecordingSubscriber subscriber = subscribe(CLIENT_ID);
+
+        eventBus.publish(event(1L, null, Order.OrderStatus.PENDING));
+        eventBus.publish(event(2L, null, Order.OrderStatus.PENDING));
+        eventBus.publish(event(3L, null, Order.OrderStatus.PENDING));
+        subscriber.request(10);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> subscriber.received.size() == 2);
+        assertThat(subscriber.received).extracting(OrderStatusEvent::orderId).containsExactly(2L, 3L);
+        assertThat(meterRegistry.counter("orders.events.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void eventsOnlyReachTheirClientsSubscribers() {
+        RecordingSubscriber subscriber = subscribe(CLIENT_ID);
+        RecordingSubscriber other = subscribe(2L);
+        subscriber.request(10);
+        other.request(10);
+
+        eventBus.publish(event(1L, null, Order.OrderStatus.PENDING));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> subscriber.received.size() == 1);
+        assertThat(other.received).isEmpty();
+    }
+
+    @Test
+    void cancelledSubscriberIsRemoved() {
+        RecordingSubscriber subscriber = subscribe(CLIENT_ID);
+        assertThat(eventBus.hasSubscribers()).isTrue();
+        assertThat(meterRegistry.get("orders.events.subscribers").gauge().value()).isEqualTo(1);
+
+        subscriber.dispose();
+        eventBus.publish(event(1L, null, Order.OrderStatus.PENDING));
+
+        assertThat(eventBus.hasSubscribers()).isFalse();
+        assertThat(meterRegistry.get("orders.events.subscribers").gauge().value()).isZero();
+        assertThat(subscriber.received).isEmpty();
+    }
+
+    @Test
+    void publishAfterCommitWaitsForTheCommit() {
+        RecordingSubscriber subscriber = subscribe(CLIENT_ID);
+        subscriber.request(10);
+
+        TransactionSynchronizationManager.initSynchronization();
+        eventBus.publishAfterCommit(event(1L, null, Order.OrderStatus.PENDING));
+        assertThat(meterRegistry.counter("orders.events.published").count()).isZero();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> subscriber.received.size() == 1);
+    }
+
+    @Test
+    void publishAfterCommitIsDiscardedOnRollback() {
+        RecordingSubscriber subscriber = subscribe(CLIENT_ID);
+        subscriber.request(10);
+
+        TransactionSynchronizationManager.initSynchronization();
+        eventBus.publishAfterCommit(event(1L, null, Order.OrderStatus.PENDING));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(meterRegistry.counter("orders.events.published").count()).isZero();
+        assertThat(subscriber.received).isEmpty();
+    }
+
+    private RecordingSubscriber subscribe(long clientId) {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        eventBus.subscribe(clientId).subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static OrderStatusEvent event(long orderId, Order.OrderStatus previousStatus, Order.OrderStatus status) {
+        return new OrderStatusEvent(orderId, CLIENT_ID, previousStatus, status, LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    /**
+     * Records what it receives and requests nothing until told to, like a slow client
+     */
+    private static final class RecordingSubscriber extends BaseSubscriber<OrderStatusEvent> {
+        private final List<OrderStatusEvent> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+        }
+
+        @Override
+        protected void hookOnNext(OrderStatusEvent event) {
+            received.add(event);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.order_management.grpc;
+
+import com.example.notification.BatchNotificationResponse;
+import com.example.notification.OrderNotificationRequest;
+import com.example.order_management.grpc.NotificationDispatcher.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NotificationDispatcherTest {
+
+    private NotificationGrpcClient notificationClient;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher dispatcher;
+
+    // Order ids of each batch handed to the client, in send order
+    private final List<List<Long>> sentBatches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSends = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        notificationClient = mock(NotificationGrpcClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        // Hold the sender inside its first send, so everything enqueued afterwards stays queued
+        when(notificationClient.sendOrderNotifications(anyList(), any())).thenAnswer(invocation -> {
+            List<OrderNotificationRequest> requests = invocation.getArgument(0);
+            sentBatches.add(requests.stream().map(OrderNotificationRequest::getOrderId).toList());
+            firstSendStarted.countDown();
+            releaseSends.await(10, TimeUnit.SECONDS);
+            return CompletableFuture.completedFuture(BatchNotificationResponse.newBuilder()
+                    .setAccepted(requests.size())
+                    .build());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSends.countDown();
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void dropOldestMakesRoomForTheNewNotification() throws Exception {
+        startDispatcher(OverflowPolicy.DROP_OLDEST, 2, 10_000);
+        blockSenderOnFirstNotification();
+
+        assertThat(dispatcher.enqueue(request(2))).isTrue();
+        assertThat(dispatcher.enqueue(request(3))).isTrue();
+        assertThat(dispatcher.enqueue(request(4))).isTrue();
+
+        assertThat(dispatcher.queueDepth()).isEqualTo(2);
+        assertThat(queueDepthGauge()).isEqualTo(2);
+        assertThat(dropped()).isEqualTo(1);
+
+        releaseSends.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> sentBatches.size() == 3);
+        assertThat(sentBatches).containsExactly(List.of(1L), List.of(3L), List.of(4L));
+        assertThat(dispatcher.queueDepth()).isZero();
+    }
+
+    @Test
+    void dropNewestRejectsTheNotificationBeingEnqueued() throws Exception {
+        startDispatcher(OverflowPolicy.DROP_NEWEST, 2, 10_000);
+        blockSenderOnFirstNotification();
+
+        assertThat(dispatcher.enqueue(request(2))).isTrue();
+        assertThat(dispatcher.enqueue(request(3))).isTrue();
+        assertThat(dispatcher.enqueue(request(4))).isFalse();
+
+        assertThat(dispatcher.queueDepth()).isEqualTo(2);
+        assertThat(queueDepthGauge()).isEqualTo(2);
+        assertThat(dropped()).isEqualTo(1);
+
+        releaseSends.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> sentBatches.size() == 3);
+        assertThat(sentBatches).containsExactly(List.of(1L), List.of(2L), List.of(3L));
+        assertThat(queueDepthGauge()).isZero();
+    }
+
+    @Test
+    void aBatchThatNeverCompletesIsCancelledAndCountedAsFailed() {
+        CompletableFuture<BatchNotificationResponse> pending = new CompletableFuture<>();
+        when(notificationClient.sendOrderNotifications(anyList(), any())).thenReturn(pending);
+        startDispatcher(OverflowPolicy.DROP_OLDEST, 10, 10);
+
+        dispatcher.enqueue(request(1));
+
+        await().atMost(5, TimeUnit.SECONDS).until(pending::isCancelled);
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.counter("notifications.sent", "outcome", "failure").count() == 1);
+    }
+
+    private void startDispatcher(OverflowPolicy overflowPolicy, int capacity, long sendTimeoutMs) {
+        dispatcher = new NotificationDispatcher(notificationClient, meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "capacity", capacity);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 1);
+        ReflectionTestUtils.setField(dispatcher, "overflowPolicy", overflowPolicy);
+        ReflectionTestUtils.setField(dispatcher, "sendTimeoutMs", sendTimeoutMs);
+        dispatcher.start();
+    }
+
+    private void blockSenderOnFirstNotification() throws InterruptedException {
+        dispatcher.enqueue(request(1));
+        assertThat(firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.queueDepth()).isZero();
+    }
+
+    private double queueDepthGauge() {
+        return meterRegistry.get("notifications.queue.depth").gauge().value();
+    }
+
+    private double dropped() {
+        return meterRegistry.get("notifications.dropped").counter().count();
+    }
+
+    private static OrderNotificationRequest request(long orderId) {
+        return OrderNotificationRequest.newBuilder().setOrderId(orderId).build();
+    }
+}
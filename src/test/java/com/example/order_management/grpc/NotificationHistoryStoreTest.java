@@ -0,0 +1,256 @@
+package com.example.order_management.grpc;
+
+import com.example.notification.NotificationHistoryPageRequest;
+import com.example.notification.NotificationHistoryPageResponse;
+import com.example.notification.NotificationRecord;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationHistoryStoreTest {
+
+    private static final long CLIENT_ID = 7L;
+
+    private NotificationHistoryStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = newStore(4, 64 * 1024 * 1024);
+    }
+
+    @Test
+    void appendAssignsIncreasingSequenceNumbers() {
+        assertThat(store.append(CLIENT_ID, record(1)).getSequence()).isZero();
+        assertThat(store.append(CLIENT_ID, record(2)).getSequence()).isEqualTo(1);
+        assertThat(store.append(CLIENT_ID + 1, record(3)).getSequence()).isZero();
+        assertThat(store.nextSequence(CLIENT_ID)).isEqualTo(2);
+    }
+
+    @Test
+    void ringBufferKeepsOnlyTheMostRecentRecords() {
+        for (int i = 0; i < 6; i++) {
+            store.append(CLIENT_ID, record(i));
+        }
+
+        assertThat(store.latest(CLIENT_ID, 0)).extracting(NotificationRecord::getOrderId)
+                .containsExactly(2L, 3L, 4L, 5L);
+        assertThat(store.latest(CLIENT_ID, 2)).extracting(NotificationRecord::getOrderId)
+                .containsExactly(4L, 5L);
+        assertThat(store.stats().overwrites()).isEqualTo(2);
+    }
+
+    @Test
+    void readSkipsRecordsThatWereOverwritten() {
+        for (int i = 0; i < 6; i++) {
+            store.append(CLIENT_ID, record(i));
+        }
+
+        assertThat(store.read(CLIENT_ID, 0, 3)).extracting(NotificationRecord::getSequence)
+                .containsExactly(2L, 3L, 4L);
+        assertThat(store.read(CLIENT_ID, 5, 10)).extracting(NotificationRecord::getSequence)
+                .containsExactly(5L);
+        assertThat(store.read(CLIENT_ID, 6, 10)).isEmpty();
+        assertThat(store.read(CLIENT_ID + 1, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void idleClientsAreEvictedOverTheByteBudget() {
+        int recordSize = store.append(1L, record(0)).getSerializedSize();
+        store = newStore(4, recordSize * 3L);
+
+        store.append(1L, record(1));
+        store.append(2L, record(2));
+        store.append(3L, record(3));
+        store.append(4L, record(4));
+
+        assertThat(store.stats().evictions()).isGreaterThanOrEqualTo(1);
+        assertThat(store.latest(1L, 0)).isEmpty();
+        assertThat(store.latest(4L, 0)).extracting(NotificationRecord::getOrderId).containsExactly(4L);
+        assertThat(store.stats().bytesRetained()).isLessThanOrEqualTo(recordSize * 3L);
+    }
+
+    @Test
+    void pageTokensWalkTheHistoryInOrder() {
+        store = newStore(100, 64 * 1024 * 1024);
+        NotificationGrpcService service = new NotificationGrpcService(store, Optional.empty());
+        for (int i = 0; i < 5; i++) {
+            store.append(CLIENT_ID, record(i));
+        }
+
+        List<Long> orderIds = new ArrayList<>();
+        String pageToken = "";
+        int pages = 0;
+        do {
+            NotificationHistoryPageResponse page = fetchPage(service, pageToken, 2);
+            page.getNotificationsList().forEach(r -> orderIds.add(r.getOrderId()));
+            pageToken = page.getNextPageToken();
+            pages++;
+        } while (!pageToken.isEmpty());
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(orderIds).containsExactly(0L, 1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void pageTokenSkipsPastOverwrittenRecords() {
+        NotificationGrpcService service = new NotificationGrpcService(store, Optional.empty());
+        store.append(CLIENT_ID, record(0));
+        store.append(CLIENT_ID, record(1));
+        String pageToken = fetchPage(service, "", 1).getNextPageToken();
+        assertThat(pageToken).endsWith(":1");
+
+        // Overwrite the whole ring before the next page is requested
+        for (int i = 2; i < 8; i++) {
+            store.append(CLIENT_ID, record(i));
+        }
+
+        NotificationHistoryPageResponse page = fetchPage(service, pageToken, 2);
+        assertThat(page.getNotificationsList()).extracting(NotificationRecord::getOrderId)
+                .containsExactly(4L, 5L);
+        assertThat(page.getNextPageToken()).isEqualTo(pageToken.replace(":1", ":6"));
+    }
+
+    @Test
+    void pageTokenFromAnEvictedHistoryIsRejected() {
+        int recordSize = store.append(1L, record(0)).getSerializedSize();
+        store = newStore(4, recordSize * 3L);
+        NotificationGrpcService service = new NotificationGrpcService(store, Optional.empty());
+        store.append(CLIENT_ID, record(0));
+        store.append(CLIENT_ID, record(1));
+        String pageToken = fetchPage(service, "", 1).getNextPageToken();
+
+        // Push the client out, then let it start a new history whose sequences restart at zero
+        store.append(2L, record(2));
+        store.append(3L, record(3));
+        store.append(4L, record(4));
+        store.append(CLIENT_ID, record(5));
+        store.append(CLIENT_ID, record(6));
+        assertThat(store.stats().evictions()).isGreaterThanOrEqualTo(1);
+
+        RecordingObserver<NotificationHistoryPageResponse> observer = new RecordingObserver<>();
+        service.getNotificationHistoryPage(NotificationHistoryPageRequest.newBuilder()
+                .setClientId(CLIENT_ID)
+                .setPageToken(pageToken)
+                .build(), observer);
+
+        assertThat(Status.fromThrowable(observer.error).getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        assertThat(fetchPage(service, "", 10).getNotificationsList()).extracting(NotificationRecord::getOrderId)
+                .containsExactly(5L, 6L);
+    }
+
+    @Test
+    void concurrentAppendsAndEvictionsKeepByteAccountingExact() throws Exception {
+        int recordSize = store.append(1L, record(0)).getSerializedSize();
+        store = newStore(4, recordSize * 20L);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                long firstClient = t * 1000L;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        store.append(firstClient + i % 50, record(i % 10));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Every byte still counted belongs to a record that can still be read
+        long readable = 0;
+        for (int t = 0; t < threads; t++) {
+            for (int c = 0; c < 50; c++) {
+                for (NotificationRecord stored : store.latest(t * 1000L + c, 0)) {
+                    readable += stored.getSerializedSize();
+                }
+            }
+        }
+        assertThat(store.stats().bytesRetained()).isEqualTo(readable);
+        assertThat(store.stats().evictions()).isPositive();
+    }
+
+    @Test
+    void malformedPageTokenIsRejected() {
+        NotificationGrpcService service = new NotificationGrpcService(store, Optional.empty());
+        RecordingObserver<NotificationHistoryPageResponse> observer = new RecordingObserver<>();
+
+        service.getNotificationHistoryPage(NotificationHistoryPageRequest.newBuilder()
+                .setClientId(CLIENT_ID)
+                .setPageToken("not-a-sequence")
+                .build(), observer);
+
+        assertThat(observer.error).isInstanceOf(StatusRuntimeException.class);
+        assertThat(Status.fromThrowable(observer.error).getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    private static NotificationHistoryStore newStore(int perClientCapacity, long maxBytes) {
+        NotificationHistoryStore store = new NotificationHistoryStore(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(store, "perClientCapacity", perClientCapacity);
+        ReflectionTestUtils.setField(store, "maxBytes", maxBytes);
+        store.init();
+        return store;
+    }
+
+    private static NotificationHistoryPageResponse fetchPage(NotificationGrpcService service, String pageToken, int pageSize) {
+        RecordingObserver<NotificationHistoryPageResponse> observer = new RecordingObserver<>();
+        service.getNotificationHistoryPage(NotificationHistoryPageRequest.newBuilder()
+                .setClientId(CLIENT_ID)
+                .setPageToken(pageToken)
+                .setPageSize(pageSize)
+                .build(), observer);
+        assertThat(observer.completed).isTrue();
+        assertThat(observer.values).hasSize(1);
+        return observer.values.get(0);
+    }
+
+    private static NotificationRecord record(long orderId) {
+        return NotificationRecord.newBuilder()
+                .setNotificationId("notification-" + orderId)
+                .setOrderId(orderId)
+                .setMessage("Order " + orderId + " updated")
+                .setTimestamp("2024-01-01T00:00:00")
+                .setStatus("SENT")
+                .build();
+    }
+
+    private static final class RecordingObserver<T> implements StreamObserver<T> {
+        private final List<T> values = new ArrayList<>();
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onNext(T value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.order_management.grpc;
+
+import com.example.notification.NotificationRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationLogTest {
+
+    // [int length][long clientId] before each payload
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final Path FIRST_SEGMENT = Path.of("00000000000000000000.log");
+
+    @TempDir
+    Path directory;
+
+    private final List<NotificationLog> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeLogs() {
+        opened.forEach(NotificationLog::close);
+    }
+
+    @Test
+    void appendedRecordsReadBackPerClient() throws IOException {
+        NotificationLog log = openLog(4096, 8);
+        log.append(1L, record(10));
+        log.append(2L, record(20));
+        log.append(1L, record(11));
+        log.append(1L, record(12));
+
+        assertThat(log.latest(1L, 0)).extracting(NotificationRecord::getOrderId).containsExactly(10L, 11L, 12L);
+        assertThat(log.latest(1L, 2)).extracting(NotificationRecord::getOrderId).containsExactly(11L, 12L);
+        assertThat(log.latest(2L, 0)).extracting(NotificationRecord::getOrderId).containsExactly(20L);
+        assertThat(log.latest(3L, 0)).isEmpty();
+    }
+
+    @Test
+    void restartReplaysEntriesInAppendOrder() throws IOException {
+        NotificationLog log = openLog(256, 8);
+        for (int i = 0; i < 10; i++) {
+            log.append(i % 2, record(i));
+        }
+        log.close();
+
+        NotificationLog reopened = openLog(256, 8);
+        List<Map.Entry<Long, Long>> replayed = new ArrayList<>();
+        reopened.replay((clientId, record) -> replayed.add(Map.entry(clientId, record.getOrderId())));
+
+        assertThat(replayed).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(replayed.get(i)).isEqualTo(Map.entry((long) (i % 2), (long) i));
+        }
+        assertThat(reopened.latest(1L, 0)).extracting(NotificationRecord::getOrderId).containsExactly(1L, 3L, 5L, 7L, 9L);
+
+        // Appends continue after the last recovered entry
+        reopened.append(0L, record(10));
+        assertThat(reopened.latest(0L, 1)).extracting(NotificationRecord::getOrderId).containsExactly(10L);
+    }
+
+    @Test
+    void bytesLeftByATornWriteNeverReadBackAsAnEntry() throws IOException {
+        NotificationLog log = openLog(4096, 8);
+        log.append(1L, record(1));
+        log.close();
+
+        // A crash left a complete-looking entry just past where the next append will end
+        int writePosition = entryBytes(record(1));
+        int staleOffset = writePosition + entryBytes(record(2));
+        writeEntry(staleOffset, 99L, record(99));
+
+        NotificationLog reopened = openLog(4096, 8);
+        reopened.append(1L, record(2));
+        reopened.close();
+
+        List<Long> replayed = new ArrayList<>();
+        openLog(4096, 8).replay((clientId, record) -> replayed.add(record.getOrderId()));
+        assertThat(replayed).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void lengthRunningPastTheSegmentEndsTheScan() throws IOException {
+        NotificationLog log = openLog(4096, 8);
+        log.append(1L, record(1));
+        log.close();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(4096).putLong(1L).flip();
+        try (FileChannel channel = FileChannel.open(directory.resolve(FIRST_SEGMENT), StandardOpenOption.WRITE)) {
+            channel.write(header, entryBytes(record(1)));
+        }
+
+        NotificationLog reopened = openLog(4096, 8);
+        List<Long> replayed = new ArrayList<>();
+        reopened.replay((clientId, record) -> replayed.add(record.getOrderId()));
+        assertThat(replayed).containsExactly(1L);
+
+        reopened.append(1L, record(2));
+        assertThat(reopened.latest(1L, 0)).extracting(NotificationRecord::getOrderId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void retentionDropsTheOldestSegments() throws IOException {
+        int segmentBytes = entryBytes(record(9)) * 2;
+        NotificationLog log = openLog(segmentBytes, 2);
+        for (int i = 0; i < 10; i++) {
+            log.append(1L, record(i));
+        }
+        assertThat(segmentFiles()).hasSize(5);
+
+        log.enforceRetention();
+
+        assertThat(segmentFiles()).hasSize(2);
+        assertThat(log.latest(1L, 0)).extracting(NotificationRecord::getOrderId).containsExactly(6L, 7L, 8L, 9L);
+    }
+
+    @Test
+    void compactionKeepsQuietClientsPastAChattyOne() throws IOException {
+        // Two entries per segment; every order id below has two digits, so all entries are the same size
+        NotificationLog log = openLog(entryBytes(record(10)) * 2, 2, 2);
+        log.append(2L, record(10));
+        for (int i = 20; i < 28; i++) {
+            log.append(1L, record(i));
+        }
+        assertThat(segmentFiles()).hasSize(5);
+
+        log.enforceRetention();
+
+        // Without compaction the quiet client's only record would go with the first segment
+        assertThat(segmentFiles()).hasSize(2);
+        assertThat(log.latest(2L, 0)).extracting(NotificationRecord::getOrderId).containsExactly(10L);
+        assertThat(log.latest(1L, 0)).extracting(NotificationRecord::getOrderId).containsExactly(26L, 27L);
+
+        // Appends after compaction land behind the surviving entries
+        log.append(2L, record(11));
+        assertThat(log.latest(2L, 0)).extracting(NotificationRecord::getOrderId).containsExactly(10L, 11L);
+    }
+
+    @Test
+    void compactedSegmentsSurviveARestart() throws IOException {
+        int segmentBytes = entryBytes(record(10)) * 2;
+        NotificationLog log = openLog(segmentBytes, 8, 2);
+        log.append(2L, record(10));
+        for (int i = 20; i < 28; i++) {
+            log.append(1L, record(i));
+        }
+        log.enforceRetention();
+        log.close();
+
+        NotificationLog reopened = openLog(segmentBytes, 8, 2);
+        List<Map.Entry<Long, Long>> replayed = new ArrayList<>();
+        reopened.replay((clientId, record) -> replayed.add(Map.entry(clientId, record.getOrderId())));
+
+        assertThat(replayed).containsExactly(Map.entry(2L, 10L), Map.entry(1L, 26L), Map.entry(1L, 27L));
+        assertThat(segmentFiles()).allMatch(file -> file.getFileName().toString().endsWith(".log"));
+    }
+
+    @Test
+    void compactionWaitsUntilItFreesASegment() throws IOException {
+        NotificationLog log = openLog(entryBytes(record(10)) * 2, 8, 4);
+        for (int i = 10; i < 15; i++) {
+            log.append(1L, record(i));
+        }
+
+        // One superseded entry is less than a segment's worth, so the segments are left alone
+        log.enforceRetention();
+
+        assertThat(segmentFiles()).hasSize(3);
+        assertThat(log.latest(1L, 0)).extracting(NotificationRecord::getOrderId).containsExactly(10L, 11L, 12L, 13L, 14L);
+    }
+
+    private NotificationLog openLog(int segmentBytes, int maxSegments) throws IOException {
+        return openLog(segmentBytes, maxSegments, 0);
+    }
+
+    private NotificationLog openLog(int segmentBytes, int maxSegments, int perClientRetention) throws IOException {
+        NotificationLog log = new NotificationLog();
+        ReflectionTestUtils.setField(log, "directory", directory);
+        ReflectionTestUtils.setField(log, "segmentBytes", segmentBytes);
+        ReflectionTestUtils.setField(log, "maxSegments", maxSegments);
+        ReflectionTestUtils.setField(log, "perClientRetention", perClientRetention);
+        log.open();
+        opened.add(log);
+        return log;
+    }
+
+    private void writeEntry(int offset, long clientId, NotificationRecord record) throws IOException {
+        byte[] payload = record.toByteArray();
+        ByteBuffer entry = ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putLong(clientId)
+                .put(payload)
+                .flip();
+        try (FileChannel channel = FileChannel.open(directory.resolve(FIRST_SEGMENT), StandardOpenOption.WRITE)) {
+            channel.write(entry, offset);
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> listing = Files.list(directory)) {
+            return listing.toList();
+        }
+    }
+
+    private static int entryBytes(NotificationRecord record) {
+        return HEADER_BYTES + record.getSerializedSize();
+    }
+
+    private static NotificationRecord record(long orderId) {
+        return NotificationRecord.newBuilder()
+                .setNotificationId("notification-" + orderId)
+                .setOrderId(orderId)
+                .setMessage("Order " + orderId + " updated")
+                .setTimestamp("2024-01-01T00:00:00")
+                .setStatus("SENT")
+                .build();
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.order_management.inventory;
+
+import com.example.order_management.model.OrderItem;
+import com.example.order_management.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockReservationLedgerTest {
+
+    private static final long PRODUCT_ID = 1L;
+    private static final long OTHER_PRODUCT_ID = 2L;
+
+    private JdbcTemplate jdbcTemplate;
+    private StockReservationLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        ledger = new StockReservationLedger(jdbcTemplate, transactionManager);
+        ledger.init();
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        seedStock(PRODUCT_ID, 100);
+        int threads = 16;
+        int attemptsPerThread = 50;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int reserved = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        try {
+                            ledger.reserve(List.of(item(PRODUCT_ID, 1)));
+                            reserved++;
+                        } catch (IllegalArgumentException e) {
+                            // Out of stock
+                        }
+                    }
+                    return reserved;
+                }));
+            }
+            start.countDown();
+
+            int totalReserved = 0;
+            for (Future<Integer> result : results) {
+                totalReserved += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(totalReserved).isEqualTo(100);
+            assertThat(ledger.availableStock(PRODUCT_ID)).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentReserveAndReleaseBalanceOut() throws Exception {
+        seedStock(PRODUCT_ID, 10);
+        int threads = 8;
+        int rounds = 1000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < rounds; i++) {
+                        List<OrderItem> items = List.of(item(PRODUCT_ID, 1));
+                        try {
+                            ledger.reserve(items);
+                        } catch (IllegalArgumentException e) {
+                            continue;
+                        }
+                        assertThat(ledger.availableStock(PRODUCT_ID)).isGreaterThanOrEqualTo(0);
+                        ledger.release(items);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ledger.availableStock(PRODUCT_ID)).isEqualTo(10);
+        // Every reservation was released, so there is nothing to write back
+        ledger.flush();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void reservationIsAllOrNothing() {
+        seedStock(PRODUCT_ID, 5);
+        seedStock(OTHER_PRODUCT_ID, 1);
+
+        assertThatThrownBy(() -> ledger.reserve(List.of(item(PRODUCT_ID, 3), item(OTHER_PRODUCT_ID, 2))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Insufficient stock");
+
+        assertThat(ledger.availableStock(PRODUCT_ID)).isEqualTo(5);
+        assertThat(ledger.availableStock(OTHER_PRODUCT_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void flushWritesAccumulatedDeltasAsOneBatch() {
+        seedStock(PRODUCT_ID, 20);
+        seedStock(OTHER_PRODUCT_ID, 20);
+
+        ledger.reserve(List.of(item(PRODUCT_ID, 3), item(OTHER_PRODUCT_ID, 4)));
+        ledger.reserve(List.of(item(PRODUCT_ID, 2)));
+        ledger.release(List.of(item(PRODUCT_ID, 1)));
+        ledger.flush();
+
+        List<Object[]> batch = capturedBatch(1);
+        assertThat(batch).extracting(row -> row[1], row -> row[0])
+                .containsExactlyInAnyOrder(
+                        tuple(PRODUCT_ID, -4L),
+                        tuple(OTHER_PRODUCT_ID, -4L));
+
+        // Deltas are cleared once written
+        ledger.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForTheNextAttempt() {
+        seedStock(PRODUCT_ID, 10);
+        ledger.reserve(List.of(item(PRODUCT_ID, 3)));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(new int[]{1});
+
+        assertThatThrownBy(ledger::flush).isInstanceOf(IllegalStateException.class);
+        ledger.flush();
+
+        List<Object[]> batch = capturedBatch(2);
+        assertThat(batch).hasSize(1);
+        assertThat(batch.get(0)).containsExactly(-3L, PRODUCT_ID);
+    }
+
+    @Test
+    void evictReseedsFromTheTablePlusUnflushedDeltas() {
+        seedStock(PRODUCT_ID, 10);
+        ledger.reserve(List.of(item(PRODUCT_ID, 4)));
+
+        ledger.evict(PRODUCT_ID);
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(ledger.availableStock(PRODUCT_ID)).isNull();
+
+        // The row was edited outside the ledger; the next reservation sees the new value minus the pending delta
+        seedStock(PRODUCT_ID, 50);
+        ledger.reserve(List.of(item(PRODUCT_ID, 5)));
+        assertThat(ledger.availableStock(PRODUCT_ID)).isEqualTo(41);
+
+        ledger.flush();
+        List<Object[]> batch = capturedBatch(1);
+        assertThat(batch.get(0)).containsExactly(-9L, PRODUCT_ID);
+    }
+
+    @Test
+    void concurrentEvictionsNeverOversell() throws Exception {
+        seedStock(PRODUCT_ID, 100);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int reserved = 0;
+                    for (int i = 0; i < 50; i++) {
+                        try {
+                            ledger.reserve(List.of(item(PRODUCT_ID, 1)));
+                            reserved++;
+                        } catch (IllegalArgumentException e) {
+                            // Out of stock
+                        }
+                    }
+                    return reserved;
+                }));
+            }
+            Future<?> evictions = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 500; i++) {
+                    ledger.evict(PRODUCT_ID);
+                }
+                return null;
+            });
+            start.countDown();
+
+            int totalReserved = 0;
+            for (Future<Integer> result : results) {
+                totalReserved += result.get(10, TimeUnit.SECONDS);
+            }
+            evictions.get(10, TimeUnit.SECONDS);
+
+            // The table never changed, so every reseed must account for the unflushed reservations
+            assertThat(totalReserved).isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void seedStock(long productId, int stock) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(productId))).thenReturn(stock);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> capturedBatch(int expectedCalls) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(expectedCalls)).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    private static OrderItem item(long productId, int quantity) {
+        Product product = new Product();
+        product.setId(productId);
+        product.setName("Product " + productId);
+
+        OrderItem item = new OrderItem();
+        item.setProduct(product);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.order_management.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OptimisticRetryExecutorTest {
+
+    private static final String OPERATION = "updateOrderStatus";
+
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticRetryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        executor = newExecutor(3, 1, 5);
+    }
+
+    @Test
+    void successfulWorkRunsOnceWithoutConflicts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(OPERATION, () -> {
+            attempts.incrementAndGet();
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(1);
+        assertThat(count("orders.optimistic.conflicts")).isZero();
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void conflictsAreRetriedInAFreshTransaction() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(OPERATION, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("stale version");
+            }
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(3);
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        assertThat(count("orders.optimistic.conflicts")).isEqualTo(2);
+        assertThat(count("orders.optimistic.retries")).isEqualTo(2);
+        assertThat(count("orders.optimistic.exhausted")).isZero();
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+        OptimisticLockingFailureException conflict = new OptimisticLockingFailureException("stale version");
+
+        assertThatThrownBy(() -> executor.execute(OPERATION, () -> {
+            attempts.incrementAndGet();
+            throw conflict;
+        })).isSameAs(conflict);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(count("orders.optimistic.conflicts")).isEqualTo(3);
+        assertThat(count("orders.optimistic.retries")).isEqualTo(2);
+        assertThat(count("orders.optimistic.exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(OPERATION, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("Cannot update status of a delivered order");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts).hasValue(1);
+        assertThat(count("orders.optimistic.conflicts")).isZero();
+    }
+
+    @Test
+    void backoffIsCappedByMaxBackoff() {
+        executor = newExecutor(5, 10_000, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> executor.execute(OPERATION, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale version");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(attempts).hasValue(5);
+        // Four waits of at most 10 ms each, far below the 10 s base backoff
+        assertThat(elapsedMs).isLessThan(2_000);
+    }
+
+    @Test
+    void workInsideAnOuterTransactionRunsOnce() {
+        AtomicInteger attempts = new AtomicInteger();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> executor.execute(OPERATION, () -> {
+                attempts.incrementAndGet();
+                throw new OptimisticLockingFailureException("stale version");
+            })).isInstanceOf(OptimisticLockingFailureException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertThat(attempts).hasValue(1);
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    private OptimisticRetryExecutor newExecutor(int maxAttempts, long baseBackoffMs, long maxBackoffMs) {
+        OptimisticRetryExecutor retryExecutor = new OptimisticRetryExecutor(transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(retryExecutor, "maxAttempts", maxAttempts);
+        ReflectionTestUtils.setField(retryExecutor, "baseBackoffMs", baseBackoffMs);
+        ReflectionTestUtils.setField(retryExecutor, "maxBackoffMs", maxBackoffMs);
+        retryExecutor.init();
+        return retryExecutor;
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name, "operation", OPERATION).count();
+    }
+}
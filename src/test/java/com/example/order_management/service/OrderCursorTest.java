@@ -0,0 +1,54 @@
+package com.example.order_management.service;
+
+import com.example.order_management.model.Order;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderCursorTest {
+
+    @Test
+    void encodedCursorDecodesToTheSamePosition() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        assertThat(OrderCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorIsBuiltFromTheOrderKeysetColumns() {
+        Order order = new Order();
+        order.setId(7L);
+        order.setOrderDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        assertThat(OrderCursor.of(order)).isEqualTo(new OrderCursor(order.getOrderDate(), 7L));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String token = new OrderCursor(LocalDateTime.of(2024, 12, 31, 23, 59, 59), Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertThatThrownBy(() -> OrderCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor: not base64!");
+        assertThatThrownBy(() -> OrderCursor.decode(encodeRaw("no-separator")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderCursor.decode(encodeRaw("yesterday|1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderCursor.decode(encodeRaw("2024-01-01T00:00|abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.order_management.service;
+
+import com.example.order_management.model.Order.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStatusTransitionsTest {
+
+    @Test
+    void defaultTableMakesDeliveredAndCancelledTerminal() {
+        OrderStatusTransitions transitions = compile(new MockEnvironment());
+
+        for (OrderStatus to : OrderStatus.values()) {
+            assertThat(transitions.isAllowed(OrderStatus.DELIVERED, to)).isFalse();
+            assertThat(transitions.isAllowed(OrderStatus.CANCELLED, to)).isFalse();
+            assertThat(transitions.isAllowed(OrderStatus.PENDING, to)).isTrue();
+            assertThat(transitions.isAllowed(OrderStatus.SHIPPED, to)).isTrue();
+        }
+    }
+
+    @Test
+    void defaultTableRejectsUpdatesToTerminalOrders() {
+        OrderStatusTransitions transitions = compile(new MockEnvironment());
+
+        assertThatThrownBy(() -> transitions.validate(OrderStatus.DELIVERED, OrderStatus.SHIPPED))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cannot update status of a delivered order");
+        assertThatThrownBy(() -> transitions.validate(OrderStatus.CANCELLED, OrderStatus.PENDING))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cannot update status of a cancelled order");
+        assertThatNoException().isThrownBy(() -> transitions.validate(OrderStatus.PENDING, OrderStatus.DELIVERED));
+    }
+
+    @Test
+    void defaultSourcesExcludeTerminalStatuses() {
+        OrderStatusTransitions transitions = compile(new MockEnvironment());
+
+        assertThat(transitions.sourcesOf(OrderStatus.CANCELLED)).containsExactlyInAnyOrder(
+                OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PROCESSING, OrderStatus.SHIPPED);
+    }
+
+    @Test
+    void configuredTableReplacesTheDefault() {
+        OrderStatusTransitions transitions = compile(new MockEnvironment()
+                .withProperty("orders.lifecycle.transitions.PENDING", "CONFIRMED,CANCELLED")
+                .withProperty("orders.lifecycle.transitions.CONFIRMED", "SHIPPED,CANCELLED")
+                .withProperty("orders.lifecycle.transitions.SHIPPED", "DELIVERED"));
+
+        assertThat(transitions.isAllowed(OrderStatus.PENDING, OrderStatus.CONFIRMED)).isTrue();
+        assertThat(transitions.isAllowed(OrderStatus.CONFIRMED, OrderStatus.SHIPPED)).isTrue();
+        assertThat(transitions.isAllowed(OrderStatus.PENDING, OrderStatus.SHIPPED)).isFalse();
+        assertThat(transitions.isAllowed(OrderStatus.SHIPPED, OrderStatus.CANCELLED)).isFalse();
+
+        assertThat(transitions.sourcesOf(OrderStatus.CANCELLED))
+                .isEqualTo(EnumSet.of(OrderStatus.PENDING, OrderStatus.CONFIRMED));
+        assertThat(transitions.sourcesOf(OrderStatus.PROCESSING)).isEmpty();
+    }
+
+    @Test
+    void configuredTableReportsRejectedTransitions() {
+        OrderStatusTransitions transitions = compile(new MockEnvironment()
+                .withProperty("orders.lifecycle.transitions.PENDING", "CONFIRMED")
+                .withProperty("orders.lifecycle.transitions.CONFIRMED", "DELIVERED"));
+
+        assertThatThrownBy(() -> transitions.validate(OrderStatus.PENDING, OrderStatus.DELIVERED))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cannot change order status from PENDING to DELIVERED");
+        // Statuses with no configured targets are terminal
+        assertThatThrownBy(() -> transitions.validate(OrderStatus.SHIPPED, OrderStatus.DELIVERED))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cannot update status of a shipped order");
+    }
+
+    private static OrderStatusTransitions compile(MockEnvironment environment) {
+        OrderStatusTransitions transitions = new OrderStatusTransitions(environment);
+        transitions.compile();
+        return transitions;
+    }
+}
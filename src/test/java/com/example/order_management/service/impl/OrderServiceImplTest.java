@@ -0,0 +1,347 @@
+package com.example.order_management.service.impl;
+
+import com.example.order_management.cache.CatalogCache;
+import com.example.order_management.cache.ClientSnapshot;
+import com.example.order_management.cache.OrderResponseCache;
+import com.example.order_management.cache.OrderTotalsCache;
+import com.example.order_management.cache.ProductSnapshot;
+import com.example.order_management.event.OrderEventBus;
+import com.example.order_management.event.OrderStatusEvent;
+import com.example.order_management.grpc.NotificationDispatcher;
+import com.example.order_management.inventory.StockReservationLedger;
+import com.example.order_management.model.Client;
+import com.example.order_management.model.Money;
+import com.example.order_management.model.Order;
+import com.example.order_management.model.OrderItem;
+import com.example.order_management.model.Product;
+import com.example.order_management.persistence.OptimisticRetryExecutor;
+import com.example.order_management.repository.ClientRepository;
+import com.example.order_management.repository.OrderRepository;
+import com.example.order_management.repository.ProductRepository;
+import com.example.order_management.service.OrderCreationResult;
+import com.example.order_management.service.OrderStatusBulkUpdate;
+import com.example.order_management.service.OrderStatusSnapshot;
+import com.example.order_management.service.OrderStatusTransitions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OrderServiceImplTest {
+
+    private static final long ORDER_ID = 7L;
+    private static final long CLIENT_ID = 1L;
+    private static final long PRODUCT_ID = 1L;
+    // Priced so that three of it no longer fit in a long of minor units
+    private static final long EXPENSIVE_PRODUCT_ID = 2L;
+
+    private OrderRepository orderRepository;
+    private ClientRepository clientRepository;
+    private ProductRepository productRepository;
+    private PlatformTransactionManager transactionManager;
+    private EntityManager entityManager;
+    private CatalogCache catalogCache;
+    private StockReservationLedger stockLedger;
+    private OrderTotalsCache orderTotalsCache;
+    private OrderEventBus orderEventBus;
+    private OrderStatusTransitions statusTransitions;
+    private OrderServiceImpl service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        clientRepository = mock(ClientRepository.class);
+        productRepository = mock(ProductRepository.class);
+        catalogCache = mock(CatalogCache.class);
+        stockLedger = mock(StockReservationLedger.class);
+        orderEventBus = mock(OrderEventBus.class);
+        statusTransitions = mock(OrderStatusTransitions.class);
+        entityManager = mock(EntityManager.class);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        orderTotalsCache = new OrderTotalsCache(orderRepository, meterRegistry);
+        ReflectionTestUtils.setField(orderTotalsCache, "maximumSize", 1_000L);
+        ReflectionTestUtils.setField(orderTotalsCache, "ttl", Duration.ofMinutes(30));
+        orderTotalsCache.init();
+
+        OptimisticRetryExecutor retryExecutor = mock(OptimisticRetryExecutor.class);
+        when(retryExecutor.execute(anyString(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, Supplier.class).get());
+
+        // Each transaction gets its own synchronizations, completed on commit or rollback
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            TransactionSynchronizationManager.initSynchronization();
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> complete(TransactionSynchronization.STATUS_COMMITTED))
+                .when(transactionManager).commit(any());
+        doAnswer(invocation -> complete(TransactionSynchronization.STATUS_ROLLED_BACK))
+                .when(transactionManager).rollback(any());
+
+        service = new OrderServiceImpl(orderRepository, clientRepository, productRepository,
+                mock(NotificationDispatcher.class), stockLedger, catalogCache, orderTotalsCache,
+                mock(OrderResponseCache.class), orderEventBus, retryExecutor,
+                statusTransitions, meterRegistry, entityManager, transactionManager);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void cancelOrderInvalidatesTheCachedTotalAfterCommit() {
+        Order order = order(Order.OrderStatus.PENDING);
+        when(orderRepository.findWithDetailsById(ORDER_ID)).thenReturn(Optional.of(order));
+        when(orderRepository.saveAndFlush(order)).thenReturn(order);
+        when(orderRepository.findTotalAmountById(ORDER_ID)).thenReturn(Optional.of(BigDecimal.TEN));
+        assertThat(service.calculateOrderTotal(ORDER_ID)).isEqualByComparingTo("10");
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.cancelOrder(ORDER_ID);
+        // A read racing the cancel reloads the total that is still committed
+        service.calculateOrderTotal(ORDER_ID);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        service.calculateOrderTotal(ORDER_ID);
+        verify(orderRepository, times(3)).findTotalAmountById(ORDER_ID);
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+        verify(stockLedger).releaseAfterCommit(order.getItems());
+    }
+
+    @Test
+    void bulkStatusUpdateReportsRejectedAndMissingOrders() {
+        when(statusTransitions.sourcesOf(Order.OrderStatus.SHIPPED))
+                .thenReturn(EnumSet.of(Order.OrderStatus.PROCESSING, Order.OrderStatus.SHIPPED));
+        when(orderRepository.findStatusesForUpdateByIdIn(any())).thenReturn(List.of(
+                new OrderStatusSnapshot(1L, 10L, Order.OrderStatus.PROCESSING),
+                new OrderStatusSnapshot(2L, 10L, Order.OrderStatus.SHIPPED),
+                new OrderStatusSnapshot(3L, 20L, Order.OrderStatus.DELIVERED)));
+        when(orderRepository.updateStatusWhereStatusIn(List.of(1L), Order.OrderStatus.SHIPPED,
+                EnumSet.of(Order.OrderStatus.PROCESSING, Order.OrderStatus.SHIPPED))).thenReturn(1);
+        when(orderEventBus.hasSubscribers()).thenReturn(true);
+
+        OrderStatusBulkUpdate result = service.updateOrderStatuses(List.of(1L, 2L, 3L, 4L, 1L), Order.OrderStatus.SHIPPED);
+
+        assertThat(result.requested()).isEqualTo(4);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.rejectedOrderIds()).containsExactly(3L);
+        assertThat(result.missingOrderIds()).containsExactly(4L);
+
+        // Only the order that actually moved is announced, with the status read under the row lock
+        ArgumentCaptor<OrderStatusEvent> events = ArgumentCaptor.forClass(OrderStatusEvent.class);
+        verify(orderEventBus).publishAfterCommit(events.capture());
+        assertThat(events.getValue().orderId()).isEqualTo(1L);
+        assertThat(events.getValue().previousStatus()).isEqualTo(Order.OrderStatus.PROCESSING);
+    }
+
+    @Test
+    void createOrdersRejectsInvalidOrdersAndCreatesTheRest() {
+        stubCatalog();
+        Order noClient = newOrder(PRODUCT_ID, 1);
+        noClient.setClient(null);
+        Order unknownClient = newOrder(PRODUCT_ID, 1);
+        unknownClient.getClient().setId(99L);
+
+        List<OrderCreationResult> results = service.createOrders(List.of(
+                newOrder(PRODUCT_ID, 2),
+                noClient,
+                unknownClient,
+                newOrder(99L, 1),
+                newOrder(PRODUCT_ID, 0),
+                newOrder(PRODUCT_ID, -5),
+                newOrder(EXPENSIVE_PRODUCT_ID, 3),
+                newOrder(PRODUCT_ID, 1)));
+
+        assertThat(results).extracting(OrderCreationResult::error).containsExactly(
+                null,
+                "Client must be specified",
+                "Client not found",
+                "Product not found: 99",
+                "Quantity must be positive for product: 1",
+                "Quantity must be positive for product: 1",
+                "Order total exceeds the supported range",
+                null);
+        assertThat(results.get(0).orderId()).isNotNull();
+        assertThat(results.get(0).totalAmount()).isEqualByComparingTo("20.00");
+        assertThat(results.get(7).totalAmount()).isEqualByComparingTo("10.00");
+
+        // Rejected orders never reserve stock, so a negative quantity cannot hand stock back
+        verify(stockLedger, times(2)).reserve(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void createOrdersRefusesBatchesAboveTheLimit() {
+        List<Order> orders = IntStream.range(0, 5_001).mapToObj(i -> newOrder(PRODUCT_ID, 1)).toList();
+
+        assertThatThrownBy(() -> service.createOrders(orders))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("5000");
+        verifyNoInteractions(orderRepository, stockLedger, transactionManager);
+    }
+
+    @Test
+    void aDatabaseErrorOnlyFailsTheChunkItHit() {
+        stubCatalog();
+        AtomicInteger flushes = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (flushes.incrementAndGet() == 2) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return null;
+        }).when(orderRepository).flush();
+        List<Order> orders = IntStream.range(0, 120).mapToObj(i -> newOrder(PRODUCT_ID, 1)).toList();
+
+        List<OrderCreationResult> results = service.createOrders(orders);
+
+        // Chunks of 50: the second one is rolled back, the first and third stay committed
+        assertThat(results.subList(0, 50)).allMatch(OrderCreationResult::success);
+        assertThat(results.subList(50, 100)).allSatisfy(result -> {
+            assertThat(result.error()).isEqualTo("Order could not be saved");
+            assertThat(result.orderId()).isNull();
+        });
+        assertThat(results.subList(100, 120)).allMatch(OrderCreationResult::success);
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager).rollback(any());
+
+        // After-commit work ran for the committed chunks only
+        assertThat(orderTotalsCache.get(orders.get(0).getId())).isEqualByComparingTo("10.00");
+        assertThat(orderTotalsCache.get(orders.get(50).getId())).isNull();
+        verify(orderRepository, never()).findTotalAmountById(orders.get(0).getId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportDetachesEachOrderOnceConsumed() {
+        Order first = order(Order.OrderStatus.PENDING);
+        Order second = order(Order.OrderStatus.SHIPPED);
+        when(orderRepository.streamAllWithDetails()).thenReturn(Stream.of(first, second));
+        Consumer<Order> consumer = mock(Consumer.class);
+
+        service.exportOrders(consumer);
+
+        InOrder inOrder = inOrder(consumer, entityManager);
+        inOrder.verify(consumer).accept(first);
+        inOrder.verify(entityManager).detach(first);
+        inOrder.verify(consumer).accept(second);
+        inOrder.verify(entityManager).detach(second);
+    }
+
+    private void stubCatalog() {
+        Client client = new Client();
+        client.setId(CLIENT_ID);
+        when(clientRepository.getReferenceById(CLIENT_ID)).thenReturn(client);
+        when(productRepository.getReferenceById(anyLong())).thenAnswer(invocation -> {
+            Product product = new Product();
+            product.setId(invocation.getArgument(0));
+            return product;
+        });
+        when(catalogCache.getClients(any())).thenReturn(Map.of(CLIENT_ID,
+                new ClientSnapshot(CLIENT_ID, "Client", "client@example.com", null, null)));
+        long expensive = Long.MAX_VALUE / 2;
+        when(catalogCache.getProducts(any())).thenReturn(Map.of(
+                PRODUCT_ID, new ProductSnapshot(PRODUCT_ID, "Widget", null, BigDecimal.TEN, 1_000L, null),
+                EXPENSIVE_PRODUCT_ID, new ProductSnapshot(EXPENSIVE_PRODUCT_ID, "Yacht", null,
+                        Money.toBigDecimal(expensive), expensive, null)));
+
+        // Ids are assigned on insert, as the sequence would
+        AtomicLong ids = new AtomicLong(100);
+        when(orderRepository.saveAll(any())).thenAnswer(invocation -> {
+            Collection<Order> saved = invocation.getArgument(0);
+            saved.forEach(order -> order.setId(ids.incrementAndGet()));
+            return new ArrayList<>(saved);
+        });
+    }
+
+    private static Order newOrder(long productId, int quantity) {
+        Client client = new Client();
+        client.setId(CLIENT_ID);
+
+        Product product = new Product();
+        product.setId(productId);
+
+        OrderItem item = new OrderItem();
+        item.setProduct(product);
+        item.setQuantity(quantity);
+
+        Order order = new Order();
+        order.setClient(client);
+        order.setItems(new ArrayList<>(List.of(item)));
+        return order;
+    }
+
+    private static Order order(Order.OrderStatus status) {
+        Client client = new Client();
+        client.setId(1L);
+
+        Product product = new Product();
+        product.setId(1L);
+
+        OrderItem item = new OrderItem();
+        item.setProduct(product);
+        item.setQuantity(1);
+        item.setPrice(BigDecimal.TEN);
+
+        Order order = new Order();
+        order.setId(ORDER_ID);
+        order.setClient(client);
+        order.setStatus(status);
+        order.setItems(List.of(item));
+        order.setTotalAmount(BigDecimal.TEN);
+        return order;
+    }
+
+    private static Void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        return null;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.order_management.web.graphql;
+
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.parser.Parser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class PersistedQueryDocumentProviderTest {
+
+    private static final String QUERY = "{ order(id: 1) { id } }";
+
+    private final AtomicInteger parses = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void registeredQueryIsServedByItsHashAlone() throws Exception {
+        PersistedQueryDocumentProvider provider = provider(100);
+
+        PreparsedDocumentEntry parsed = document(provider, QUERY, null);
+        PreparsedDocumentEntry byText = document(provider, QUERY, null);
+        PreparsedDocumentEntry byHash = document(provider, "", sha256(QUERY));
+
+        assertThat(parsed.hasErrors()).isFalse();
+        assertThat(byText).isSameAs(parsed);
+        assertThat(byHash).isSameAs(parsed);
+        assertThat(parses).hasValue(1);
+        assertThat(meterRegistry.timer("graphql.documents.parse").count()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownHashAsksForTheFullQuery() throws Exception {
+        PersistedQueryDocumentProvider provider = provider(100);
+
+        PreparsedDocumentEntry entry = document(provider, "", sha256(QUERY));
+
+        assertThat(entry.getErrors()).singleElement()
+                .extracting(GraphQLError::getErrorType)
+                .isInstanceOf(PersistedQueryNotFound.class);
+        assertThat(parses).hasValue(0);
+        assertThat(meterRegistry.counter("graphql.documents.persisted.not-found").count()).isEqualTo(1);
+
+        // The retry with the full text registers it
+        document(provider, QUERY, sha256(QUERY));
+        assertThat(document(provider, "", sha256(QUERY)).hasErrors()).isFalse();
+        assertThat(parses).hasValue(1);
+    }
+
+    @Test
+    void hashNotMatchingTheQueryIsRejected() throws Exception {
+        PersistedQueryDocumentProvider provider = provider(100);
+
+        PreparsedDocumentEntry entry = document(provider, QUERY, sha256("{ orders { id } }"));
+
+        assertThat(entry.getErrors()).singleElement()
+                .extracting(GraphQLError::getErrorType)
+                .isInstanceOf(PersistedQueryIdInvalid.class);
+        assertThat(parses).hasValue(0);
+
+        // Nothing was registered under either hash
+        assertThat(document(provider, "", sha256(QUERY)).getErrors()).singleElement()
+                .extracting(GraphQLError::getErrorType)
+                .isInstanceOf(PersistedQueryNotFound.class);
+    }
+
+    @Test
+    void invalidDocumentsAreNotRegistered() {
+        PersistedQueryDocumentProvider provider = provider(100);
+        Function<ExecutionInput, PreparsedDocumentEntry> invalid = input -> {
+            parses.incrementAndGet();
+            return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError().message("Validation error").build());
+        };
+
+        provider.getDocumentAsync(input(QUERY, null), invalid).join();
+        provider.getDocumentAsync(input(QUERY, null), invalid).join();
+
+        assertThat(parses).hasValue(2);
+    }
+
+    @Test
+    void documentsBeyondTheLimitAreEvicted() throws Exception {
+        PersistedQueryDocumentProvider provider = provider(1);
+        List<String> queries = List.of("{ a }", "{ b }", "{ c }");
+        for (String query : queries) {
+            document(provider, query, null);
+        }
+
+        // Caffeine evicts asynchronously, so wait until only one document is left
+        await().atMost(5, TimeUnit.SECONDS).until(() -> servedByHash(provider, queries) <= 1);
+    }
+
+    private long servedByHash(PersistedQueryDocumentProvider provider, List<String> queries) throws Exception {
+        long served = 0;
+        for (String query : queries) {
+            if (!document(provider, "", sha256(query)).hasErrors()) {
+                served++;
+            }
+        }
+        return served;
+    }
+
+    private PersistedQueryDocumentProvider provider(long maxDocuments) {
+        PersistedQueryDocumentProvider provider = new PersistedQueryDocumentProvider(meterRegistry);
+        ReflectionTestUtils.setField(provider, "maxDocuments", maxDocuments);
+        provider.init();
+        return provider;
+    }
+
+    private PreparsedDocumentEntry document(PersistedQueryDocumentProvider provider, String query, String hash) {
+        return provider.getDocumentAsync(input(query, hash), input -> {
+            parses.incrementAndGet();
+            return new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+        }).join();
+    }
+
+    private static ExecutionInput input(String query, String hash) {
+        Map<String, Object> extensions = hash != null
+                ? Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash))
+                : Map.of();
+        return ExecutionInput.newExecutionInput()
+                .query(query)
+                .extensions(extensions)
+                .build();
+    }
+
+    private static String sha256(String query) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.order_management.web.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.GraphQLError;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCostInstrumentationTest {
+
+    private static final String SCHEMA = """
+            type Query {
+                orders: [Order!]!
+                order(id: ID!): Order
+                ordersConnection(first: Int): OrderConnection!
+            }
+            type OrderConnection {
+                edges: [OrderEdge!]!
+            }
+            type OrderEdge {
+                node: Order!
+            }
+            type Order {
+                id: ID!
+                client: Client!
+                items: [OrderItem!]!
+            }
+            type Client {
+                id: ID!
+                orders: [Order!]!
+            }
+            type OrderItem {
+                quantity: Int!
+            }
+            """;
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void cheapQueryIsExecuted() {
+        ExecutionResult result = execute(graphQL(100, 4), "{ order(id: 1) { id client { id } } }");
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(fetches).hasPositiveValue();
+    }
+
+    @Test
+    void queryOverTheCostBudgetIsRejectedBeforeFetching() {
+        ExecutionResult result = execute(graphQL(100, 8), "query Expensive { orders { id items { quantity } } }");
+
+        assertThat(messages(result)).singleElement().asString().startsWith("Query cost").contains("budget of 100");
+        assertThat(fetches).hasValue(0);
+        assertThat(meterRegistry.counter("graphql.query.rejected", "operation", "Expensive", "reason", "cost").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void firstArgumentSizesConnections() {
+        GraphQL graphQL = graphQL(100, 8);
+
+        assertThat(execute(graphQL, "{ ordersConnection(first: 5) { edges { node { id } } } }").getErrors()).isEmpty();
+        assertThat(messages(execute(graphQL, "{ ordersConnection(first: 500) { edges { node { id } } } }")))
+                .singleElement().asString().startsWith("Query cost");
+    }
+
+    @Test
+    void queryDeeperThanTheLimitIsRejected() {
+        ExecutionResult result = execute(graphQL(Long.MAX_VALUE, 4),
+                "query Deep { order(id: 1) { client { orders { client { id } } } } }");
+
+        assertThat(messages(result)).containsExactly("Query depth 5 exceeds the maximum of 4");
+        assertThat(fetches).hasValue(0);
+        assertThat(meterRegistry.counter("graphql.query.rejected", "operation", "Deep", "reason", "depth").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void introspectionIsNotCounted() {
+        ExecutionResult result = execute(graphQL(10, 2),
+                "{ __schema { types { name fields { name type { name ofType { name } } } } } }");
+
+        assertThat(result.getErrors()).isEmpty();
+    }
+
+    private GraphQL graphQL(long maxCost, int maxDepth) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("graphql.query-cost.list-sizes.Query.orders", "1000")
+                .withProperty("graphql.query-cost.list-sizes.Order.items", "5");
+        QueryCostInstrumentation instrumentation = new QueryCostInstrumentation(meterRegistry, environment);
+        ReflectionTestUtils.setField(instrumentation, "maxCost", maxCost);
+        ReflectionTestUtils.setField(instrumentation, "maxDepth", maxDepth);
+        ReflectionTestUtils.setField(instrumentation, "defaultListSize", 10);
+        instrumentation.init();
+
+        Map<String, Object> client = Map.of("id", "1", "orders", List.of());
+        Map<String, Object> order = Map.of("id", "1", "client", client, "items", List.of(Map.of("quantity", 2)));
+        DataFetcher<Object> orders = env -> fetched(List.of(order));
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", type -> type
+                        .dataFetcher("orders", orders)
+                        .dataFetcher("order", env -> fetched(order))
+                        .dataFetcher("ordersConnection", env -> fetched(Map.of("edges", List.of(Map.of("node", order))))))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+        return GraphQL.newGraphQL(schema).instrumentation(instrumentation).build();
+    }
+
+    private Object fetched(Object value) {
+        fetches.incrementAndGet();
+        return value;
+    }
+
+    private static ExecutionResult execute(GraphQL graphQL, String query) {
+        return graphQL.execute(query);
+    }
+
+    private static List<String> messages(ExecutionResult result) {
+        return result.getErrors().stream().map(GraphQLError::getMessage).toList();
+    }
+}
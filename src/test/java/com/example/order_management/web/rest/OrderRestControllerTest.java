@@ -0,0 +1,91 @@
+package com.example.order_management.web.rest;
+
+import com.example.order_management.cache.OrderResponseCache;
+import com.example.order_management.model.Order;
+import com.example.order_management.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class OrderRestControllerTest {
+
+    private OrderService orderService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        orderService = mock(OrderService.class);
+        OrderRestController controller = new OrderRestController(orderService, mock(OrderResponseCache.class),
+                JsonMapper.builder().build());
+        ReflectionTestUtils.setField(controller, "exportTimeout", Duration.ofMinutes(10));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportWritesOneJsonObjectPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Order> consumer = invocation.getArgument(0);
+            consumer.accept(order(1L, "10.00"));
+            consumer.accept(order(2L, "25.50"));
+            return null;
+        }).when(orderService).exportOrders(any());
+
+        MvcResult started = mockMvc.perform(get("/api/orders/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // The long timeout belongs to this request alone, not to every async request
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(10).toMillis());
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"id\":1").contains("\"totalAmount\":10.00");
+        assertThat(lines[1]).startsWith("{").contains("\"id\":2").contains("\"totalAmount\":25.50");
+    }
+
+    @Test
+    void emptyExportHasAnEmptyBody() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+
+    private static Order order(long id, String totalAmount) {
+        Order order = new Order();
+        order.setId(id);
+        order.setTotalAmount(new BigDecimal(totalAmount));
+        order.setStatus(Order.OrderStatus.PENDING);
+        return order;
+    }
+}